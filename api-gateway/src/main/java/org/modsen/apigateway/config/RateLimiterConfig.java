@@ -0,0 +1,28 @@
+package org.modsen.apigateway.config;
+
+import org.modsen.apigateway.filter.HedgeGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+import java.net.InetSocketAddress;
+
+@Configuration
+public class RateLimiterConfig {
+
+    /**
+     * Keys requests by the client address. The gateway does not verify tokens, so a subject taken
+     * from one would let a client pick a fresh bucket per request. Hedged copies resolve no key, so
+     * the request is charged once (empty keys are let through).
+     */
+    @Bean
+    public KeyResolver principalKeyResolver() {
+        return exchange -> {
+            if (exchange.getAttribute(HedgeGatewayFilterFactory.HEDGE_COPY_ATTR) != null) {
+                return Mono.empty();
+            }
+            InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+            return Mono.just(remoteAddress == null ? "anonymous" : "ip:" + remoteAddress.getHostString());
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package org.modsen.apigateway.filter;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs just before {@link NettyWriteResponseFilter}, so it sees the upstream body that the
+ * positional {@link CoalesceGatewayFilterFactory} filter cannot. When that filter made this request
+ * a coalescing leader, the body is recorded for the followers and the call is finished on any signal.
+ */
+@Component
+public class CoalesceCaptureGlobalFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpResponseDecorator response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                CoalesceGatewayFilterFactory.Capture capture =
+                        exchange.getAttribute(CoalesceGatewayFilterFactory.CAPTURE_ATTR);
+                return super.writeWith(capture == null ? body : capture.record(getDelegate(), body));
+            }
+        };
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    CoalesceGatewayFilterFactory.Capture capture =
+                            exchange.getAttribute(CoalesceGatewayFilterFactory.CAPTURE_ATTR);
+                    if (capture != null) {
+                        capture.release();
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+}
@@ -0,0 +1,162 @@
+package org.modsen.apigateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one upstream call between identical in-flight GET requests. The filter is positional, so
+ * followers pass the rate limiter and concurrency limit before they wait on the leader. The leader's
+ * body is written after the route filters complete, so {@link CoalesceCaptureGlobalFilter} records it
+ * and finishes the call.
+ */
+@Component
+public class CoalesceGatewayFilterFactory extends AbstractGatewayFilterFactory<CoalesceGatewayFilterFactory.Config> {
+
+    static final String CAPTURE_ATTR = CoalesceGatewayFilterFactory.class.getName() + ".capture";
+
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public CoalesceGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() == null ? "unknown" : config.getRouteId();
+        int maxBodyBytes = (int) config.getMaxBodySize().toBytes();
+        Counter leaders = counter(routeId, "leader");
+        Counter coalesced = counter(routeId, "coalesced");
+        Counter oversized = counter(routeId, "oversized");
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET
+                    || exchange.getAttribute(HedgeGatewayFilterFactory.HEDGE_COPY_ATTR) != null) {
+                return chain.filter(exchange);
+            }
+
+            String key = key(routeId, request);
+            Sinks.One<CachedResponse> sink = Sinks.one();
+            Sinks.One<CachedResponse> leader = inFlight.putIfAbsent(key, sink);
+
+            if (leader != null) {
+                coalesced.increment();
+                return leader.asMono()
+                        .flatMap(cached -> write(exchange.getResponse(), cached))
+                        .switchIfEmpty(Mono.defer(() -> chain.filter(exchange)));
+            }
+
+            leaders.increment();
+            exchange.getAttributes().put(CAPTURE_ATTR, new Capture(key, sink, maxBodyBytes, oversized));
+            return chain.filter(exchange);
+        };
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, CachedResponse cached) {
+        response.setStatusCode(cached.status());
+        response.getHeaders().putAll(cached.headers());
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    private String key(String routeId, ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        return routeId + '|' + request.getURI().getRawPath()
+                + '?' + (query == null ? "" : query)
+                + '|' + (authorization == null ? "" : authorization);
+    }
+
+    private Counter counter(String routeId, String outcome) {
+        return Counter.builder("gateway.coalescing.requests")
+                .description("GET requests handled by the coalescing filter")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+        private String routeId;
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+    }
+
+    /**
+     * The leader's side of a coalesced call. The body streams through to the client while a copy is
+     * kept for followers; past the size cap the copy is dropped and followers call upstream themselves.
+     */
+    final class Capture {
+
+        private final String key;
+        private final Sinks.One<CachedResponse> sink;
+        private final int maxBodyBytes;
+        private final Counter oversized;
+
+        private Capture(String key, Sinks.One<CachedResponse> sink, int maxBodyBytes, Counter oversized) {
+            this.key = key;
+            this.sink = sink;
+            this.maxBodyBytes = maxBodyBytes;
+            this.oversized = oversized;
+        }
+
+        Flux<DataBuffer> record(ServerHttpResponse response, Publisher<? extends DataBuffer> body) {
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            boolean[] overflowed = {false};
+            return Flux.<DataBuffer>from(body)
+                    .doOnNext(buffer -> {
+                        int size = buffer.readableByteCount();
+                        if (overflowed[0]) {
+                            return;
+                        }
+                        if (copy.size() + size > maxBodyBytes) {
+                            overflowed[0] = true;
+                            oversized.increment();
+                            release();
+                            return;
+                        }
+                        byte[] bytes = new byte[size];
+                        int position = buffer.readPosition();
+                        buffer.read(bytes);
+                        buffer.readPosition(position);
+                        copy.writeBytes(bytes);
+                    })
+                    .doOnComplete(() -> {
+                        if (!overflowed[0]) {
+                            HttpHeaders headers = new HttpHeaders();
+                            headers.putAll(response.getHeaders());
+                            sink.tryEmitValue(new CachedResponse(response.getStatusCode(), headers, copy.toByteArray()));
+                        }
+                    });
+        }
+
+        void release() {
+            inFlight.remove(key, sink);
+            sink.tryEmitEmpty();
+        }
+    }
+
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+}
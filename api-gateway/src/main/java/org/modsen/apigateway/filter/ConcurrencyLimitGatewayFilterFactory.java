@@ -0,0 +1,99 @@
+package org.modsen.apigateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class ConcurrencyLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ConcurrencyLimitGatewayFilterFactory.Config> {
+
+    private final Map<String, AimdLimiter> limiters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() == null ? "unknown" : config.getRouteId();
+        AimdLimiter limiter = limiters.computeIfAbsent(routeId, id -> register(id, config));
+        Counter rejected = Counter.builder("gateway.concurrency.rejected")
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("route", routeId)
+                .register(meterRegistry);
+
+        return (exchange, chain) -> {
+            if (!limiter.tryAcquire()) {
+                rejected.increment();
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(config.getStatus());
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                return response.setComplete();
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean released = new AtomicBoolean();
+            return chain.filter(exchange)
+                    .doOnError(e -> {
+                        if (released.compareAndSet(false, true)) {
+                            limiter.release(System.nanoTime() - start, true);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        if (!released.compareAndSet(false, true)) {
+                            return;
+                        }
+                        if (signal == SignalType.CANCEL) {
+                            limiter.ignore();
+                        } else {
+                            HttpStatusCode status = exchange.getResponse().getStatusCode();
+                            limiter.release(System.nanoTime() - start, status != null && status.is5xxServerError());
+                        }
+                    });
+        };
+    }
+
+    private AimdLimiter register(String routeId, Config config) {
+        AimdLimiter limiter = new AimdLimiter(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                config.getBackoffRatio(), config.getLatencyThreshold().toNanos());
+        Gauge.builder("gateway.concurrency.limit", limiter, AimdLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in-flight", limiter, AimdLimiter::getInFlight)
+                .description("Requests currently holding a concurrency permit")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+        private String routeId;
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+        private HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+    }
+}
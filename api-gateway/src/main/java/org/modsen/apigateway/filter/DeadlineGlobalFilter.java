@@ -0,0 +1,65 @@
+package org.modsen.apigateway.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Stamps each routed request with the time budget (remaining millis) it may spend downstream.
+ * A relative budget keeps the deadline independent of clock skew between hosts; each service
+ * turns it into a local deadline on arrival. Routes listed in {@code gateway.deadline.excluded-routes}
+ * are left unbounded.
+ */
+@Component
+public class DeadlineGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String HEADER = "X-Request-Timeout";
+
+    @Value("${gateway.deadline.timeout:5s}")
+    private Duration timeout;
+
+    @Value("${gateway.deadline.excluded-routes:}")
+    private List<String> excludedRoutes;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        boolean excluded = route != null && excludedRoutes.contains(route.getId());
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    if (excluded) {
+                        headers.remove(HEADER);
+                    } else {
+                        headers.set(HEADER, String.valueOf(budget(headers.getFirst(HEADER))));
+                    }
+                })
+                .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    public long budget(String requested) {
+        long budget = timeout.toMillis();
+        if (requested != null) {
+            try {
+                return Math.max(0, Math.min(budget, Long.parseLong(requested.trim())));
+            } catch (NumberFormatException ignored) {
+                // a malformed client budget is replaced by the gateway's own
+            }
+        }
+        return budget;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,235 @@
+package org.modsen.apigateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.modsen.apigateway.loadbalancer.PeakEwmaLoadBalancer;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class HedgeGatewayFilterFactory extends AbstractGatewayFilterFactory<HedgeGatewayFilterFactory.Config> {
+
+    /**
+     * Marks the second copy of a hedged request. The copy re-enters the route filters, so the key
+     * resolver uses this to avoid charging the principal's rate-limit bucket twice for one request.
+     */
+    public static final String HEDGE_COPY_ATTR = HedgeGatewayFilterFactory.class.getName() + ".hedgeCopy";
+
+    private final MeterRegistry meterRegistry;
+
+    public HedgeGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() == null ? "unknown" : config.getRouteId();
+        LatencyWindow latencies = new LatencyWindow(config.getWindowSize());
+        HedgeBudget budget = new HedgeBudget(config.getBudgetPercent() / 100.0, config.getMinBudget());
+        Counter requests = counter("gateway.hedging.requests", "Requests eligible for hedging", routeId);
+        Counter hedges = counter("gateway.hedging.hedges", "Hedged copies sent", routeId);
+        Counter wins = counter("gateway.hedging.wins", "Hedged copies that answered first", routeId);
+
+        GatewayFilter filter = (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+            requests.increment();
+            budget.deposit();
+
+            long start = System.nanoTime();
+            CopyExchange primary = new CopyExchange(exchange);
+            AtomicBoolean primaryDone = new AtomicBoolean();
+            Mono<Captured> primaryCall = send(primary, chain)
+                    .doOnNext(captured -> latencies.record(System.nanoTime() - start))
+                    .doFinally(signal -> primaryDone.set(true));
+
+            Duration delay = latencies.delay(config.getPercentile(), config.getMinDelay(), config.getMaxDelay());
+            Mono<Captured> hedgeCall = Mono.delay(delay)
+                    .filter(tick -> !primaryDone.get() && budget.tryWithdraw())
+                    .flatMap(tick -> {
+                        hedges.increment();
+                        CopyExchange hedge = new CopyExchange(exchange);
+                        hedge.getAttributes().put(HEDGE_COPY_ATTR, Boolean.TRUE);
+                        Response<?> chosen = primary.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+                        if (chosen != null && chosen.getServer() instanceof ServiceInstance instance) {
+                            hedge.getAttributes().put(PeakEwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR, instance);
+                        }
+                        return send(hedge, chain).doOnNext(captured -> wins.increment());
+                    });
+
+            return Mono.firstWithValue(primaryCall, hedgeCall)
+                    .onErrorResume(e -> Arrays.stream(e.getSuppressed())
+                            .filter(FailedResponse.class::isInstance)
+                            .map(failed -> Mono.just(((FailedResponse) failed).captured))
+                            .findFirst()
+                            .orElseGet(() -> Mono.error(e)))
+                    .flatMap(captured -> write(exchange.getResponse(), captured));
+        };
+        // Ahead of CoalesceCaptureGlobalFilter, so each copy's response is captured on its own.
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2);
+    }
+
+    private Mono<Captured> send(CopyExchange copy, GatewayFilterChain chain) {
+        return chain.filter(copy)
+                .then(Mono.fromCallable(() -> {
+                    ServerHttpResponse response = copy.getResponse();
+                    Captured captured = new Captured(response.getStatusCode(), response.getHeaders(),
+                            ((BufferedServerHttpResponse) response).getBody());
+                    if (!isWinning(captured.status())) {
+                        throw new FailedResponse(captured);
+                    }
+                    return captured;
+                }));
+    }
+
+    private boolean isWinning(HttpStatusCode status) {
+        return status == null
+                || !(status.is5xxServerError() || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, Captured captured) {
+        response.setStatusCode(captured.status());
+        response.getHeaders().putAll(captured.headers());
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(captured.body())));
+    }
+
+    private Counter counter(String name, String description, String routeId) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+        private String routeId;
+        private int percentile = 95;
+        private Duration minDelay = Duration.ofMillis(10);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        private int windowSize = 512;
+        private int budgetPercent = 10;
+        private int minBudget = 10;
+    }
+
+    private static final class CopyExchange extends ServerWebExchangeDecorator {
+
+        private final Map<String, Object> attributes;
+        private final BufferedServerHttpResponse response = new BufferedServerHttpResponse();
+
+        private CopyExchange(ServerWebExchange delegate) {
+            super(delegate);
+            this.attributes = new ConcurrentHashMap<>(delegate.getAttributes());
+        }
+
+        @Override
+        public ServerHttpResponse getResponse() {
+            return response;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+    }
+
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        private LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        private Duration delay(int percentile, Duration min, Duration max) {
+            long[] sorted;
+            synchronized (this) {
+                if (size < samples.length / 8) {
+                    return max;
+                }
+                sorted = Arrays.copyOf(samples, size);
+            }
+            Arrays.sort(sorted);
+            long value = sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+            return Duration.ofNanos(Math.max(min.toNanos(), Math.min(max.toNanos(), value)));
+        }
+    }
+
+    private static final class HedgeBudget {
+
+        private static final long SCALE = 1000;
+
+        private final long depositPerRequest;
+        private final long capacity;
+        private final AtomicLong balance;
+
+        private HedgeBudget(double ratio, int minBudget) {
+            this.depositPerRequest = (long) (ratio * SCALE);
+            this.capacity = minBudget * SCALE;
+            this.balance = new AtomicLong(capacity);
+        }
+
+        private void deposit() {
+            balance.accumulateAndGet(depositPerRequest, (current, amount) -> Math.min(capacity, current + amount));
+        }
+
+        private boolean tryWithdraw() {
+            while (true) {
+                long current = balance.get();
+                if (current < SCALE) {
+                    return false;
+                }
+                if (balance.compareAndSet(current, current - SCALE)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private record Captured(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    private static final class FailedResponse extends RuntimeException {
+
+        private final transient Captured captured;
+
+        private FailedResponse(Captured captured) {
+            super(null, null, false, false);
+            this.captured = captured;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.modsen.apigateway.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.modsen.apigateway.loadbalancer.InstanceHealthTracker;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveLoadBalancerClientFilter} only reports success and error to the load balancer
+ * lifecycle, so a cancelled request (hedge loser, time limiter, client abort) would keep its
+ * pending slot on the instance forever. This records it as a failure with the elapsed time.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadBalancerCancelGlobalFilter implements GlobalFilter, Ordered {
+
+    private final InstanceHealthTracker instanceHealthTracker;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doOnCancel(() -> {
+                        Response<ServiceInstance> lbResponse =
+                                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+                        if (lbResponse != null && lbResponse.hasServer()) {
+                            instanceHealthTracker.record(lbResponse.getServer(), System.nanoTime() - start, true);
+                        }
+                    });
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+}
@@ -0,0 +1,58 @@
+package org.modsen.apigateway.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.modsen.apigateway.service.RideDetailsService;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+public class RideDetailsGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    private final RideDetailsService rideDetailsService;
+    private final ObjectMapper objectMapper;
+
+    public RideDetailsGatewayFilterFactory(RideDetailsService rideDetailsService, ObjectMapper objectMapper) {
+        super(Object.class);
+        this.rideDetailsService = rideDetailsService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> {
+            Long id = parseId(ServerWebExchangeUtils.getUriTemplateVariables(exchange).get("id"));
+            if (id == null) {
+                exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+                return exchange.getResponse().setComplete();
+            }
+
+            HttpHeaders headers = exchange.getRequest().getHeaders();
+            return rideDetailsService.getRideDetails(id, headers.getFirst(HttpHeaders.AUTHORIZATION),
+                            headers.getFirst(DeadlineGlobalFilter.HEADER))
+                    .flatMap(entity -> write(exchange.getResponse(), entity));
+        };
+    }
+
+    private Long parseId(String id) {
+        try {
+            return id == null ? null : Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, ResponseEntity<Object> entity) {
+        response.setStatusCode(entity.getStatusCode());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromCallable(
+                () -> response.bufferFactory().wrap(objectMapper.writeValueAsBytes(entity.getBody()))));
+    }
+}
@@ -0,0 +1,152 @@
+package org.modsen.apigateway.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InstanceHealthTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Value("${loadbalancer.peak-ewma.decay:10s}")
+    private Duration decay;
+
+    @Value("${loadbalancer.peak-ewma.failure-penalty:1s}")
+    private Duration failurePenalty;
+
+    @Value("${loadbalancer.ejection.consecutive-failures:5}")
+    private int ejectionThreshold;
+
+    @Value("${loadbalancer.ejection.duration:30s}")
+    private Duration ejectionDuration;
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(System.nanoTime());
+        }
+        if (lbResponse.hasServer()) {
+            Stats instanceStats = stats(lbResponse.getServer());
+            synchronized (instanceStats) {
+                instanceStats.pending++;
+            }
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD
+                || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        long latency = completionContext.getLoadBalancerRequest() != null
+                && completionContext.getLoadBalancerRequest().getContext() instanceof TimedRequestContext context
+                && context.getRequestStartTime() > 0
+                ? System.nanoTime() - context.getRequestStartTime()
+                : 0;
+        record(lbResponse.getServer(), latency, isFailure(completionContext));
+    }
+
+    public void record(ServiceInstance instance, long latencyNanos, boolean failed) {
+        Stats instanceStats = stats(instance);
+        long now = System.nanoTime();
+        synchronized (instanceStats) {
+            instanceStats.pending = Math.max(0, instanceStats.pending - 1);
+
+            double rtt = failed ? Math.max(latencyNanos, failurePenalty.toNanos()) : latencyNanos;
+            if (rtt > instanceStats.cost) {
+                instanceStats.cost = rtt;
+            } else {
+                double weight = Math.exp(-(double) (now - instanceStats.updatedAt) / decay.toNanos());
+                instanceStats.cost = instanceStats.cost * weight + rtt * (1 - weight);
+            }
+            instanceStats.updatedAt = now;
+
+            if (!failed) {
+                instanceStats.consecutiveFailures = 0;
+            } else if (++instanceStats.consecutiveFailures >= ejectionThreshold && !isEjected(instanceStats, now)) {
+                instanceStats.ejectedUntil = now + ejectionDuration.toNanos();
+                Counter.builder("loadbalancer.instance.ejections")
+                        .description("Instances temporarily ejected after consecutive failures")
+                        .tag("service", String.valueOf(instance.getServiceId()))
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("Ejecting instance {} of {} for {}", key(instance), instance.getServiceId(), ejectionDuration);
+            }
+        }
+    }
+
+    public double score(ServiceInstance instance) {
+        Stats instanceStats = stats(instance);
+        synchronized (instanceStats) {
+            double weight = Math.exp(-(double) (System.nanoTime() - instanceStats.updatedAt) / decay.toNanos());
+            return instanceStats.cost * weight * (instanceStats.pending + 1);
+        }
+    }
+
+    public int pending(ServiceInstance instance) {
+        Stats instanceStats = stats(instance);
+        synchronized (instanceStats) {
+            return instanceStats.pending;
+        }
+    }
+
+    public boolean isEjected(ServiceInstance instance) {
+        Stats instanceStats = stats(instance);
+        synchronized (instanceStats) {
+            return isEjected(instanceStats, System.nanoTime());
+        }
+    }
+
+    private boolean isEjected(Stats instanceStats, long now) {
+        return instanceStats.ejectedUntil != 0 && now - instanceStats.ejectedUntil < 0;
+    }
+
+    private boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        return completionContext.getClientResponse() instanceof ResponseData responseData
+                && responseData.getHttpStatus() != null
+                && responseData.getHttpStatus().is5xxServerError();
+    }
+
+    private Stats stats(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> new Stats());
+    }
+
+    private String key(ServiceInstance instance) {
+        return instance.getServiceId() + "/" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static final class Stats {
+        private double cost;
+        private long updatedAt = System.nanoTime();
+        private int pending;
+        private int consecutiveFailures;
+        private long ejectedUntil;
+    }
+}
@@ -0,0 +1,113 @@
+package org.modsen.apigateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final Cache<String, Bucket> buckets;
+    private final Config defaultConfig;
+
+    public LocalRateLimiter(ConfigurationService configurationService,
+                            @Value("${rate-limiter.local.default.replenish-rate:20}") int replenishRate,
+                            @Value("${rate-limiter.local.default.burst-capacity:40}") int burstCapacity,
+                            @Value("${rate-limiter.local.max-keys:100000}") int maxKeys,
+                            @Value("${rate-limiter.local.idle-timeout:10m}") Duration idleTimeout) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.defaultConfig = new Config();
+        this.defaultConfig.setReplenishRate(replenishRate);
+        this.defaultConfig.setBurstCapacity(burstCapacity);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        return Mono.just(tryConsume(routeId, id));
+    }
+
+    public Response tryConsume(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long now = System.nanoTime();
+        String key = routeId + ':' + id;
+        Bucket bucket = buckets.get(key, ignored -> new Bucket(config.getBurstCapacity(), now));
+
+        long remaining;
+        boolean allowed;
+        double tokens;
+        synchronized (bucket) {
+            bucket.refill(config, now);
+            allowed = bucket.tokens >= config.getRequestedTokens();
+            if (allowed) {
+                bucket.tokens -= config.getRequestedTokens();
+            }
+            tokens = bucket.tokens;
+            remaining = (long) tokens;
+        }
+
+        Map<String, String> headers = new HashMap<>(4);
+        headers.put(LIMIT_HEADER, String.valueOf(config.getBurstCapacity()));
+        headers.put(REMAINING_HEADER, String.valueOf(remaining));
+        headers.put(RESET_HEADER, String.valueOf(secondsUntil(config.getBurstCapacity() - tokens, config)));
+        if (!allowed) {
+            headers.put(RETRY_AFTER_HEADER, String.valueOf(secondsUntil(config.getRequestedTokens() - tokens, config)));
+        }
+        return new Response(allowed, headers);
+    }
+
+    private long secondsUntil(double missingTokens, Config config) {
+        return missingTokens <= 0 ? 0 : (long) Math.ceil(missingTokens / config.getReplenishRate());
+    }
+
+    @Getter
+    @Setter
+    @Validated
+    public static class Config {
+        @Min(1)
+        private int replenishRate = 20;
+        @Min(1)
+        private int burstCapacity = 40;
+        @Min(1)
+        private int requestedTokens = 1;
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        private void refill(Config config, long now) {
+            long elapsed = now - updatedAt;
+            if (elapsed > 0) {
+                tokens = Math.min(config.getBurstCapacity(), tokens + elapsed * config.getReplenishRate() / 1e9);
+                updatedAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.modsen.apigateway.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RideDetailsResponse {
+    private Object ride;
+    private Object driver;
+    private Object passenger;
+    private Object driverRating;
+    private Map<String, Integer> failed;
+    private List<String> degraded;
+}
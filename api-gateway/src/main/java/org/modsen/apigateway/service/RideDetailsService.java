@@ -0,0 +1,133 @@
+package org.modsen.apigateway.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.modsen.apigateway.controller.FallbackController;
+import org.modsen.apigateway.filter.DeadlineGlobalFilter;
+import org.modsen.apigateway.response.ResponseMessage;
+import org.modsen.apigateway.response.RideDetailsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Service
+public class RideDetailsService {
+
+    private final WebClient webClient;
+    private final ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory;
+    private final FallbackController fallbackController;
+    private final DeadlineGlobalFilter deadlineFilter;
+
+    @Value("${gateway.composite.ride-uri:http://service-ride}")
+    private String rideUri;
+
+    @Value("${gateway.composite.driver-uri:http://service-driver}")
+    private String driverUri;
+
+    @Value("${gateway.composite.passenger-uri:http://service-passenger}")
+    private String passengerUri;
+
+    @Value("${gateway.composite.rating-uri:http://service-rating}")
+    private String ratingUri;
+
+    public RideDetailsService(ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+                              ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory,
+                              FallbackController fallbackController,
+                              DeadlineGlobalFilter deadlineFilter) {
+        this.webClient = WebClient.builder()
+                .filter(loadBalancerFunction)
+                .build();
+        this.circuitBreakerFactory = circuitBreakerFactory;
+        this.fallbackController = fallbackController;
+        this.deadlineFilter = deadlineFilter;
+    }
+
+    public Mono<ResponseEntity<Object>> getRideDetails(Long id, String authorization, String timeout) {
+        long effectiveDeadline = System.currentTimeMillis() + deadlineFilter.budget(timeout);
+        return fetch(rideUri + "/api/v1/rides/" + id, authorization, effectiveDeadline,
+                "serviceRideCircuitBreaker", fallbackController::ridesFallback)
+                .flatMap(ride -> {
+                    if (ride.degraded() || ride.status().isError()) {
+                        return Mono.just(ResponseEntity.status(ride.status()).body(ride.body()));
+                    }
+
+                    JsonNode rideBody = (JsonNode) ride.body();
+                    long driverId = rideBody.path("driverId").asLong();
+                    long passengerId = rideBody.path("passengerId").asLong();
+
+                    return Mono.zip(
+                            fetch(driverUri + "/api/v1/drivers/" + driverId, authorization, effectiveDeadline,
+                                    "serviceDriverCircuitBreaker", fallbackController::driversFallback),
+                            fetch(passengerUri + "/api/v1/passengers/" + passengerId, authorization,
+                                    effectiveDeadline, "servicePassengerCircuitBreaker",
+                                    fallbackController::passengersFallback),
+                            fetch(ratingUri + "/api/v1/ratings/driver/" + driverId + "/avg", authorization,
+                                    effectiveDeadline, "serviceRatingCircuitBreaker",
+                                    fallbackController::ratingsFallback)
+                    ).map(parts -> {
+                        Map<String, Integer> failed = new LinkedHashMap<>();
+                        List<String> degraded = new ArrayList<>();
+
+                        return ResponseEntity.ok(RideDetailsResponse.builder()
+                                .ride(rideBody)
+                                .driver(section("driver", parts.getT1(), failed, degraded))
+                                .passenger(section("passenger", parts.getT2(), failed, degraded))
+                                .driverRating(section("driverRating", parts.getT3(), failed, degraded))
+                                .failed(failed)
+                                .degraded(degraded)
+                                .build());
+                    });
+                });
+    }
+
+    private Mono<Part> fetch(String uri, String authorization, long deadline, String circuitBreaker,
+                             Supplier<ResponseEntity<ResponseMessage>> fallback) {
+        Mono<Part> call = webClient.get()
+                .uri(uri)
+                .headers(headers -> {
+                    if (authorization != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                    }
+                    headers.set(DeadlineGlobalFilter.HEADER,
+                            String.valueOf(Math.max(0, deadline - System.currentTimeMillis())));
+                })
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> new Part(HttpStatus.OK, body, false))
+                .onErrorResume(WebClientResponseException.class, e -> e.getStatusCode().is4xxClientError()
+                        ? Mono.just(new Part(e.getStatusCode(), e.getResponseBodyAs(JsonNode.class), false))
+                        : Mono.error(e));
+
+        return circuitBreakerFactory.create(circuitBreaker).run(call, throwable -> {
+            ResponseEntity<ResponseMessage> response = fallback.get();
+            return Mono.just(new Part(response.getStatusCode(), response.getBody(), true));
+        });
+    }
+
+    private Object section(String name, Part part, Map<String, Integer> failed, List<String> degraded) {
+        if (part.degraded()) {
+            degraded.add(name);
+        }
+        if (!part.status().is2xxSuccessful()) {
+            failed.put(name, part.status().value());
+            return null;
+        }
+
+        return part.body();
+    }
+
+    private record Part(HttpStatusCode status, Object body, boolean degraded) {
+    }
+}
@@ -0,0 +1,78 @@
+package org.modsen.apigateway.benchmark;
+
+import org.modsen.apigateway.ratelimit.LocalRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of {@link LocalRateLimiter}. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.modsen.apigateway.benchmark.LocalRateLimiterBenchmark} or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalRateLimiterBenchmark {
+
+    private static final int PRINCIPALS = 10_000;
+
+    private LocalRateLimiter rateLimiter;
+    private String[] principals;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new LocalRateLimiter(null, 1_000_000, 1_000_000, 100_000, Duration.ofMinutes(10));
+        principals = new String[PRINCIPALS];
+        for (int i = 0; i < PRINCIPALS; i++) {
+            principals[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public RateLimiter.Response singlePrincipal() {
+        return rateLimiter.tryConsume("service-ride", principals[0]);
+    }
+
+    @Benchmark
+    public RateLimiter.Response manyPrincipals() {
+        return rateLimiter.tryConsume("service-ride", principals[ThreadLocalRandom.current().nextInt(PRINCIPALS)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RateLimiter.Response contendedPrincipal() {
+        return rateLimiter.tryConsume("service-ride", principals[0]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RateLimiter.Response manyPrincipalsConcurrent() {
+        return rateLimiter.tryConsume("service-ride", principals[ThreadLocalRandom.current().nextInt(PRINCIPALS)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LocalRateLimiterBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
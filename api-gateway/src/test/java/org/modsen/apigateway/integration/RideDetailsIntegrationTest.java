@@ -0,0 +1,90 @@
+package org.modsen.apigateway.integration;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.NettyOutbound;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Ride details integration tests")
+public class RideDetailsIntegrationTest {
+
+    private static final DisposableServer downstream = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                    .get("/api/v1/rides/1", (request, response) -> json(response, HttpResponseStatus.OK,
+                            "{\"id\":1,\"driverId\":2,\"passengerId\":3}"))
+                    .get("/api/v1/rides/404", (request, response) -> json(response, HttpResponseStatus.NOT_FOUND,
+                            "{\"message\":\"Ride with id = 404 not found\"}"))
+                    .get("/api/v1/drivers/2", (request, response) -> json(response, HttpResponseStatus.NOT_FOUND,
+                            "{\"message\":\"Driver with id = 2 not found\"}"))
+                    .get("/api/v1/passengers/3", (request, response) -> json(response, HttpResponseStatus.OK,
+                            "{\"id\":3,\"firstName\":\"Kirill\"}"))
+                    .get("/api/v1/ratings/driver/2/avg", (request, response) -> json(response,
+                            HttpResponseStatus.INTERNAL_SERVER_ERROR, "{}")))
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("eureka.client.enabled", () -> "false");
+        for (String service : List.of("service-ride", "service-driver", "service-passenger", "service-rating")) {
+            registry.add("spring.cloud.discovery.client.simple.instances." + service + "[0].uri",
+                    () -> "http://localhost:" + downstream.port());
+        }
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.disposeNow();
+    }
+
+    @Test
+    void givenMissingDriverAndFailingRatingService_whenGetRideDetails_thenReportFailedSections() {
+        webTestClient.get()
+                .uri("/api/v1/rides/{id}/details", 1)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.ride.id").isEqualTo(1)
+                .jsonPath("$.passenger.id").isEqualTo(3)
+                .jsonPath("$.driver").doesNotExist()
+                .jsonPath("$.driverRating").doesNotExist()
+                .jsonPath("$.failed.driver").isEqualTo(404)
+                .jsonPath("$.failed.driverRating").isEqualTo(503)
+                .jsonPath("$.failed.passenger").doesNotExist()
+                .jsonPath("$.degraded[0]").isEqualTo("driverRating")
+                .jsonPath("$.degraded.length()").isEqualTo(1);
+    }
+
+    @Test
+    void givenMissingRide_whenGetRideDetails_thenReturnRideStatus() {
+        webTestClient.get()
+                .uri("/api/v1/rides/{id}/details", 404)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Ride with id = 404 not found");
+    }
+
+    private static NettyOutbound json(HttpServerResponse response, HttpResponseStatus status, String body) {
+        return response.status(status)
+                .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                .sendString(Mono.just(body));
+    }
+}
@@ -0,0 +1,48 @@
+package org.modsen.apigateway.unit.config;
+
+import org.junit.jupiter.api.Test;
+import org.modsen.apigateway.config.RateLimiterConfig;
+import org.modsen.apigateway.filter.HedgeGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import java.net.InetSocketAddress;
+import java.util.Base64;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RateLimiterConfigUnitTest {
+
+    private final KeyResolver keyResolver = new RateLimiterConfig().principalKeyResolver();
+
+    @Test
+    void givenUnverifiedToken_whenResolve_thenKeyedByClientAddress() {
+        // Given
+        String claims = Base64.getUrlEncoder().encodeToString("{\"sub\":\"forged\"}".getBytes(UTF_8));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/rides")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 50000))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer e30." + claims + ".signature"));
+
+        // When
+        String key = keyResolver.resolve(exchange).block();
+
+        // Then
+        assertEquals("ip:10.0.0.1", key);
+    }
+
+    @Test
+    void givenHedgeCopy_whenResolve_thenNoKey() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/rides")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 50000)));
+        exchange.getAttributes().put(HedgeGatewayFilterFactory.HEDGE_COPY_ATTR, Boolean.TRUE);
+
+        // When
+        String key = keyResolver.resolve(exchange).block();
+
+        // Then
+        assertNull(key);
+    }
+}
@@ -0,0 +1,143 @@
+package org.modsen.apigateway.unit.filter;
+
+import org.junit.jupiter.api.Test;
+import org.modsen.apigateway.filter.AimdLimiter;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AimdLimiterUnitTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+    private static final long THRESHOLD = Duration.ofMillis(500).toNanos();
+
+    @Test
+    void givenSaturatedLimiter_whenFastReleases_thenLimitIncreases() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(2, 1, 100, 0.5, THRESHOLD);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            saturateAndRelease(limiter, FAST, false);
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() > 2);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void givenUnderusedLimiter_whenFastReleases_thenLimitUnchanged() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 100, 0.5, THRESHOLD);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST, false);
+        }
+
+        // Then
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void givenFailedRequest_whenRelease_thenLimitBacksOff() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 100, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+
+        // When
+        limiter.release(FAST, true);
+
+        // Then
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void givenSlowRequest_whenRelease_thenLimitBacksOff() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 100, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+
+        // When
+        limiter.release(SLOW, false);
+
+        // Then
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void givenRepeatedFailures_whenRelease_thenLimitClampedToMin() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(16, 3, 100, 0.5, THRESHOLD);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+
+        // Then
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void givenLimiterAtMax_whenFastReleases_thenLimitClampedToMax() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(5, 1, 5, 0.5, THRESHOLD);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            saturateAndRelease(limiter, FAST, false);
+        }
+
+        // Then
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void givenLimitReached_whenTryAcquire_thenRequestShed() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(2, 1, 100, 0.5, THRESHOLD);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+
+        // When
+        boolean shed = !limiter.tryAcquire();
+        limiter.release(FAST, false);
+        boolean admittedAfterRelease = limiter.tryAcquire();
+
+        // Then
+        assertTrue(shed);
+        assertTrue(admittedAfterRelease);
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void givenCancelledRequest_whenIgnore_thenPermitFreedAndLimitUnchanged() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(1, 1, 100, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+
+        // When
+        limiter.ignore();
+
+        // Then
+        assertEquals(1, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private void saturateAndRelease(AimdLimiter limiter, long latencyNanos, boolean failed) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latencyNanos, failed);
+        }
+    }
+}
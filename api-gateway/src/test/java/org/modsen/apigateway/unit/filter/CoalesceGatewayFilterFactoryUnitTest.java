@@ -0,0 +1,263 @@
+package org.modsen.apigateway.unit.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modsen.apigateway.filter.CoalesceCaptureGlobalFilter;
+import org.modsen.apigateway.filter.CoalesceGatewayFilterFactory;
+import org.modsen.apigateway.filter.HedgeGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CoalesceGatewayFilterFactoryUnitTest {
+
+    private final CoalesceCaptureGlobalFilter captureFilter = new CoalesceCaptureGlobalFilter();
+    private MeterRegistry meterRegistry;
+    private CoalesceGatewayFilterFactory factory;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        factory = new CoalesceGatewayFilterFactory(meterRegistry);
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void givenRequestInFlight_whenSameRequestArrives_thenFollowerGetsLeaderResponse() {
+        // Given
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain chain = exchange -> {
+            calls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            return release.asMono().then(Mono.defer(() -> {
+                response.setStatusCode(HttpStatus.CREATED);
+                response.getHeaders().add("X-Served-By", "leader");
+                return response.writeWith(Mono.just(
+                        response.bufferFactory().wrap("ride".getBytes(StandardCharsets.UTF_8))));
+            }));
+        };
+        GatewayFilter filter = filter("service-ride");
+        MockServerWebExchange leader = exchange("service-ride", "Bearer a");
+        MockServerWebExchange follower = exchange("service-ride", "Bearer a");
+
+        // When
+        Mono<Void> leaderCall = send(filter, leader, chain);
+        Mono<Void> followerCall = send(filter, follower, chain);
+
+        // Then
+        StepVerifier.create(Mono.when(leaderCall, followerCall))
+                .then(release::tryEmitEmpty)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        assertEquals(1, calls.get());
+        assertEquals(HttpStatus.CREATED, follower.getResponse().getStatusCode());
+        assertEquals("leader", follower.getResponse().getHeaders().getFirst("X-Served-By"));
+        assertEquals("ride", follower.getResponse().getBodyAsString().block());
+        assertEquals("ride", leader.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void givenLeaderCompletesWithoutBody_whenFollowerWaits_thenFollowerCallsChain() {
+        // Given
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain chain = exchange -> calls.incrementAndGet() == 1 ? release.asMono() : Mono.empty();
+        GatewayFilter filter = filter("service-ride");
+        Mono<Void> leaderCall = send(filter, exchange("service-ride", "Bearer a"), chain);
+        Mono<Void> followerCall = send(filter, exchange("service-ride", "Bearer a"), chain);
+
+        // When
+        // Then
+        StepVerifier.create(Mono.when(leaderCall, followerCall))
+                .then(release::tryEmitEmpty)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void givenLeaderCancelled_whenFollowerWaits_thenFollowerCallsChain() {
+        // Given
+        GatewayFilterChain chain = exchange -> calls.incrementAndGet() == 1 ? Mono.never() : Mono.empty();
+        GatewayFilter filter = filter("service-ride");
+        Disposable leaderCall = send(filter, exchange("service-ride", "Bearer a"), chain).subscribe();
+        Mono<Void> followerCall = send(filter, exchange("service-ride", "Bearer a"), chain);
+
+        // When
+        // Then
+        StepVerifier.create(followerCall)
+                .then(leaderCall::dispose)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void givenLeaderFinished_whenSameRequestArrives_thenItLeadsNewCall() {
+        // Given
+        GatewayFilterChain chain = exchange -> {
+            calls.incrementAndGet();
+            return Mono.empty();
+        };
+        GatewayFilter filter = filter("service-ride");
+        send(filter, exchange("service-ride", "Bearer a"), chain).block();
+
+        // When
+        send(filter, exchange("service-ride", "Bearer a"), chain).block();
+
+        // Then
+        assertEquals(2, calls.get());
+        assertEquals(2.0, count("service-ride", "leader"));
+    }
+
+    @Test
+    void givenRequestsOnSeveralRoutes_whenFiltered_thenCountersArePerRoute() {
+        // Given
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain chain = exchange -> release.asMono();
+        GatewayFilter rideFilter = filter("service-ride");
+        GatewayFilter driverFilter = filter("service-driver");
+
+        // When
+        Mono<Void> rides = Mono.when(
+                send(rideFilter, exchange("service-ride", "Bearer a"), chain),
+                send(rideFilter, exchange("service-ride", "Bearer a"), chain),
+                send(rideFilter, exchange("service-ride", "Bearer b"), chain));
+        Mono<Void> drivers = send(driverFilter, exchange("service-driver", "Bearer a"), chain);
+
+        // Then
+        StepVerifier.create(Mono.when(rides, drivers))
+                .then(release::tryEmitEmpty)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        assertEquals(2.0, count("service-ride", "leader"));
+        assertEquals(1.0, count("service-ride", "coalesced"));
+        assertEquals(1.0, count("service-driver", "leader"));
+        assertEquals(0.0, count("service-driver", "coalesced"));
+    }
+
+    @Test
+    void givenLeaderBodyOverCap_whenFollowerWaits_thenLeaderStreamsAndFollowerCallsChain() {
+        // Given
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain chain = exchange -> {
+            Mono<Void> ready = calls.incrementAndGet() == 1 ? release.asMono() : Mono.empty();
+            ServerHttpResponse response = exchange.getResponse();
+            return ready.then(Mono.defer(() -> response.writeWith(Flux.just("ride-", "list")
+                    .map(part -> response.bufferFactory().wrap(part.getBytes(StandardCharsets.UTF_8))))));
+        };
+        CoalesceGatewayFilterFactory.Config config = new CoalesceGatewayFilterFactory.Config();
+        config.setRouteId("service-ride");
+        config.setMaxBodySize(DataSize.ofBytes(6));
+        GatewayFilter filter = factory.apply(config);
+        MockServerWebExchange leader = exchange("service-ride", "Bearer a");
+        MockServerWebExchange follower = exchange("service-ride", "Bearer a");
+
+        // When
+        Mono<Void> leaderCall = send(filter, leader, chain);
+        Mono<Void> followerCall = send(filter, follower, chain);
+
+        // Then
+        StepVerifier.create(Mono.when(leaderCall, followerCall))
+                .then(release::tryEmitEmpty)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        assertEquals(2, calls.get());
+        assertEquals("ride-list", leader.getResponse().getBodyAsString().block());
+        assertEquals("ride-list", follower.getResponse().getBodyAsString().block());
+        assertEquals(1.0, count("service-ride", "oversized"));
+    }
+
+    @Test
+    void givenHedgeCopy_whenSameRequestInFlight_thenCopyCallsChain() {
+        // Given
+        GatewayFilterChain chain = exchange -> {
+            calls.incrementAndGet();
+            return Mono.never();
+        };
+        GatewayFilter filter = filter("service-ride");
+        MockServerWebExchange hedge = exchange("service-ride", "Bearer a");
+        hedge.getAttributes().put(HedgeGatewayFilterFactory.HEDGE_COPY_ATTR, Boolean.TRUE);
+
+        // When
+        Disposable primaryCall = send(filter, exchange("service-ride", "Bearer a"), chain).subscribe();
+        Disposable hedgeCall = send(filter, hedge, chain).subscribe();
+
+        // Then
+        assertEquals(2, calls.get());
+        assertEquals(0.0, count("service-ride", "coalesced"));
+        primaryCall.dispose();
+        hedgeCall.dispose();
+    }
+
+    @Test
+    void givenPostRequest_whenFiltered_thenNotCoalesced() {
+        // Given
+        GatewayFilterChain chain = exchange -> {
+            calls.incrementAndGet();
+            return Mono.never();
+        };
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/rides"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/rides"));
+
+        GatewayFilter filter = filter("service-ride");
+
+        // When
+        send(filter, first, chain).subscribe().dispose();
+        send(filter, second, chain).subscribe().dispose();
+
+        // Then
+        assertEquals(2, calls.get());
+        assertEquals(0.0, count("service-ride", "leader"));
+    }
+
+    private GatewayFilter filter(String routeId) {
+        CoalesceGatewayFilterFactory.Config config = new CoalesceGatewayFilterFactory.Config();
+        config.setRouteId(routeId);
+        return factory.apply(config);
+    }
+
+    private Mono<Void> send(GatewayFilter filter, MockServerWebExchange exchange, GatewayFilterChain backend) {
+        return captureFilter.filter(exchange, captured -> filter.filter(captured, backend));
+    }
+
+    private MockServerWebExchange exchange(String routeId, String authorization) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/rides/1")
+                .header(HttpHeaders.AUTHORIZATION, authorization));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId)
+                .uri("lb://" + routeId.toUpperCase())
+                .predicate(serverWebExchange -> true)
+                .build());
+        return exchange;
+    }
+
+    private double count(String routeId, String outcome) {
+        return meterRegistry.find("gateway.coalescing.requests")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .counters()
+                .stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,66 @@
+package org.modsen.apigateway.unit.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modsen.apigateway.filter.ConcurrencyLimitGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrencyLimitGatewayFilterFactoryUnitTest {
+
+    private MeterRegistry meterRegistry;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimitGatewayFilterFactory.Config config = new ConcurrencyLimitGatewayFilterFactory.Config();
+        config.setRouteId("service-ride");
+        config.setInitialLimit(1);
+        filter = new ConcurrencyLimitGatewayFilterFactory(meterRegistry).apply(config);
+    }
+
+    @Test
+    void givenCancelledRequest_whenReleased_thenLimitUnchanged() {
+        // Given
+        GatewayFilterChain chain = exchange -> Mono.never();
+
+        // When
+        filter.filter(exchange(), chain).subscribe().dispose();
+
+        // Then
+        assertEquals(1.0, gauge("gateway.concurrency.limit"));
+        assertEquals(0.0, gauge("gateway.concurrency.in-flight"));
+    }
+
+    @Test
+    void givenSuccessfulRequest_whenReleased_thenLimitIncreases() {
+        // Given
+        GatewayFilterChain chain = exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        };
+
+        // When
+        filter.filter(exchange(), chain).block();
+
+        // Then
+        assertEquals(2.0, gauge("gateway.concurrency.limit"));
+        assertEquals(0.0, gauge("gateway.concurrency.in-flight"));
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/rides/1"));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("route", "service-ride").gauge().value();
+    }
+}
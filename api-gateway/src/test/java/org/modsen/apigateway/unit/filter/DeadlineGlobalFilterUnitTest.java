@@ -0,0 +1,107 @@
+package org.modsen.apigateway.unit.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modsen.apigateway.filter.DeadlineGlobalFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DeadlineGlobalFilterUnitTest {
+
+    private DeadlineGlobalFilter filter;
+    private AtomicReference<ServerWebExchange> forwarded;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new DeadlineGlobalFilter();
+        ReflectionTestUtils.setField(filter, "timeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(filter, "excludedRoutes", List.of("service-ride-export"));
+        forwarded = new AtomicReference<>();
+        chain = exchange -> {
+            forwarded.set(exchange);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void givenNoClientBudget_whenFilter_thenGatewayTimeoutSent() {
+        // Given
+        MockServerWebExchange exchange = exchange("service-ride", null);
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals("5000", header());
+    }
+
+    @Test
+    void givenShorterClientBudget_whenFilter_thenClientBudgetKept() {
+        // Given
+        MockServerWebExchange exchange = exchange("service-ride", "1200");
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals("1200", header());
+    }
+
+    @Test
+    void givenLongerOrMalformedClientBudget_whenFilter_thenCappedAtGatewayTimeout() {
+        // Given
+        MockServerWebExchange longer = exchange("service-ride", "60000");
+        MockServerWebExchange malformed = exchange("service-ride", "tomorrow");
+
+        // When
+        filter.filter(longer, chain).block();
+        String longerHeader = header();
+        filter.filter(malformed, chain).block();
+
+        // Then
+        assertEquals("5000", longerHeader);
+        assertEquals("5000", header());
+    }
+
+    @Test
+    void givenExcludedRoute_whenFilter_thenNoBudgetSent() {
+        // Given
+        MockServerWebExchange exchange = exchange("service-ride-export", "1200");
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertNull(header());
+    }
+
+    private String header() {
+        return forwarded.get().getRequest().getHeaders().getFirst(DeadlineGlobalFilter.HEADER);
+    }
+
+    private MockServerWebExchange exchange(String routeId, String budget) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/rides");
+        if (budget != null) {
+            request.header(DeadlineGlobalFilter.HEADER, budget);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId)
+                .uri("lb://SERVICE-RIDE")
+                .predicate(serverWebExchange -> true)
+                .build());
+        return exchange;
+    }
+}
@@ -0,0 +1,220 @@
+package org.modsen.apigateway.unit.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modsen.apigateway.filter.HedgeGatewayFilterFactory;
+import org.modsen.apigateway.loadbalancer.PeakEwmaLoadBalancer;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class HedgeGatewayFilterFactoryUnitTest {
+
+    private static final Duration SLOW = Duration.ofMillis(300);
+
+    private final ServiceInstance primaryInstance =
+            new DefaultServiceInstance("ride-1", "service-ride", "ride-1", 8080, false);
+
+    private MeterRegistry meterRegistry;
+    private HedgeGatewayFilterFactory.Config config;
+    private AtomicInteger primaryCalls;
+    private AtomicInteger hedgeCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        config = new HedgeGatewayFilterFactory.Config();
+        config.setRouteId("service-ride");
+        config.setMinDelay(Duration.ofMillis(10));
+        config.setMaxDelay(Duration.ofMillis(20));
+        primaryCalls = new AtomicInteger();
+        hedgeCalls = new AtomicInteger();
+    }
+
+    @Test
+    void givenSlowPrimary_whenHedgeAnswersFirst_thenHedgeResponseWins() {
+        // Given
+        AtomicReference<Object> excluded = new AtomicReference<>();
+        GatewayFilterChain chain = chain(
+                exchange -> {
+                    exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                            new DefaultResponse(primaryInstance));
+                    return Mono.delay(SLOW).then(respond(exchange, HttpStatus.OK, "primary"));
+                },
+                exchange -> {
+                    excluded.set(exchange.getAttribute(PeakEwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR));
+                    return respond(exchange, HttpStatus.OK, "hedge");
+                });
+        MockServerWebExchange exchange = exchange();
+
+        // When
+        filter(exchange, chain);
+
+        // Then
+        assertEquals("hedge", exchange.getResponse().getBodyAsString().block());
+        assertEquals(primaryInstance, excluded.get());
+        assertNull(exchange.getAttribute(HedgeGatewayFilterFactory.HEDGE_COPY_ATTR));
+        assertEquals(1.0, count("gateway.hedging.wins"));
+    }
+
+    @Test
+    void givenFastPrimary_whenFiltered_thenNoHedgeSent() {
+        // Given
+        GatewayFilterChain chain = chain(
+                exchange -> respond(exchange, HttpStatus.OK, "primary"),
+                exchange -> respond(exchange, HttpStatus.OK, "hedge"));
+        MockServerWebExchange exchange = exchange();
+
+        // When
+        filter(exchange, chain);
+
+        // Then
+        assertEquals("primary", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, hedgeCalls.get());
+        assertEquals(0.0, count("gateway.hedging.hedges"));
+    }
+
+    @Test
+    void givenHedgeRateLimited_whenPrimaryAnswers_thenPrimaryResponseWins() {
+        // Given
+        GatewayFilterChain chain = chain(
+                exchange -> Mono.delay(SLOW).then(respond(exchange, HttpStatus.OK, "primary")),
+                exchange -> respond(exchange, HttpStatus.TOO_MANY_REQUESTS, "hedge"));
+        MockServerWebExchange exchange = exchange();
+
+        // When
+        filter(exchange, chain);
+
+        // Then
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("primary", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, hedgeCalls.get());
+        assertEquals(0.0, count("gateway.hedging.wins"));
+    }
+
+    @Test
+    void givenHedgeShed_whenPrimaryAnswers_thenPrimaryResponseWins() {
+        // Given
+        GatewayFilterChain chain = chain(
+                exchange -> Mono.delay(SLOW).then(respond(exchange, HttpStatus.OK, "primary")),
+                exchange -> respond(exchange, HttpStatus.SERVICE_UNAVAILABLE, "hedge"));
+        MockServerWebExchange exchange = exchange();
+
+        // When
+        filter(exchange, chain);
+
+        // Then
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("primary", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0.0, count("gateway.hedging.wins"));
+    }
+
+    @Test
+    void givenPrimaryRateLimited_whenFiltered_thenRejectionReturnedWithoutHedge() {
+        // Given
+        GatewayFilterChain chain = chain(
+                exchange -> respond(exchange, HttpStatus.TOO_MANY_REQUESTS, ""),
+                exchange -> respond(exchange, HttpStatus.OK, "hedge"));
+        MockServerWebExchange exchange = exchange();
+
+        // When
+        filter(exchange, chain);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals(0, hedgeCalls.get());
+    }
+
+    @Test
+    void givenBudgetExhausted_whenPrimarySlow_thenNoFurtherHedges() {
+        // Given
+        config.setBudgetPercent(0);
+        config.setMinBudget(1);
+        GatewayFilterChain chain = chain(
+                exchange -> Mono.delay(SLOW).then(respond(exchange, HttpStatus.OK, "primary")),
+                exchange -> Mono.never());
+        GatewayFilter filter = new HedgeGatewayFilterFactory(meterRegistry).apply(config);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            filter(filter, exchange(), chain);
+        }
+
+        // Then
+        assertEquals(3, primaryCalls.get());
+        assertEquals(1, hedgeCalls.get());
+        assertEquals(1.0, count("gateway.hedging.hedges"));
+        assertEquals(3.0, count("gateway.hedging.requests"));
+    }
+
+    @Test
+    void givenPostRequest_whenFiltered_thenNotHedged() {
+        // Given
+        GatewayFilterChain chain = chain(
+                exchange -> Mono.delay(SLOW).then(respond(exchange, HttpStatus.CREATED, "primary")),
+                exchange -> respond(exchange, HttpStatus.CREATED, "hedge"));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/rides"));
+
+        // When
+        filter(exchange, chain);
+
+        // Then
+        assertEquals("primary", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, hedgeCalls.get());
+    }
+
+    private void filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        filter(new HedgeGatewayFilterFactory(meterRegistry).apply(config), exchange, chain);
+    }
+
+    private void filter(GatewayFilter filter, ServerWebExchange exchange, GatewayFilterChain chain) {
+        StepVerifier.create(filter.filter(exchange, chain))
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+    }
+
+    private GatewayFilterChain chain(GatewayFilterChain primary, GatewayFilterChain hedge) {
+        return exchange -> {
+            if (exchange.getAttribute(HedgeGatewayFilterFactory.HEDGE_COPY_ATTR) == null) {
+                primaryCalls.incrementAndGet();
+                return primary.filter(exchange);
+            }
+            hedgeCalls.incrementAndGet();
+            return hedge.filter(exchange);
+        };
+    }
+
+    private Mono<Void> respond(ServerWebExchange exchange, HttpStatus status, String body) {
+        return Mono.defer(() -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(status);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+        });
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/rides/1"));
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("route", "service-ride").counter().count();
+    }
+}
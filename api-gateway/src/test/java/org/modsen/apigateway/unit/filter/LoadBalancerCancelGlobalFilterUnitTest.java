@@ -0,0 +1,93 @@
+package org.modsen.apigateway.unit.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modsen.apigateway.filter.LoadBalancerCancelGlobalFilter;
+import org.modsen.apigateway.loadbalancer.InstanceHealthTracker;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadBalancerCancelGlobalFilterUnitTest {
+
+    private final ServiceInstance instance = new DefaultServiceInstance("ride-1", "service-ride", "ride-1", 8080, false);
+
+    private InstanceHealthTracker tracker;
+    private LoadBalancerCancelGlobalFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InstanceHealthTracker(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tracker, "decay", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(tracker, "failurePenalty", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(tracker, "ejectionThreshold", 3);
+        ReflectionTestUtils.setField(tracker, "ejectionDuration", Duration.ofSeconds(30));
+        filter = new LoadBalancerCancelGlobalFilter(tracker);
+    }
+
+    @Test
+    void givenRequestInFlight_whenCancelled_thenPendingReleasedAndFailureRecorded() {
+        // Given
+        GatewayFilterChain chain = exchange -> {
+            DefaultResponse lbResponse = new DefaultResponse(instance);
+            exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR, lbResponse);
+            tracker.onStartRequest(new DefaultRequest<>(), lbResponse);
+            return Mono.never();
+        };
+        Disposable request = filter.filter(exchange(), chain).subscribe();
+        assertEquals(1, tracker.pending(instance));
+
+        // When
+        request.dispose();
+
+        // Then
+        assertEquals(0, tracker.pending(instance));
+        assertTrue(tracker.score(instance) >= Duration.ofMillis(900).toNanos());
+    }
+
+    @Test
+    void givenNoInstanceChosen_whenCancelled_thenNothingRecorded() {
+        // Given
+        GatewayFilterChain chain = exchange -> Mono.never();
+        Disposable request = filter.filter(exchange(), chain).subscribe();
+
+        // When
+        request.dispose();
+
+        // Then
+        assertEquals(0, tracker.pending(instance));
+        assertEquals(0.0, tracker.score(instance));
+    }
+
+    @Test
+    void givenRequestCompleted_whenFiltered_thenNothingRecorded() {
+        // Given
+        GatewayFilterChain chain = exchange -> {
+            exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                    new DefaultResponse(instance));
+            return Mono.empty();
+        };
+
+        // When
+        filter.filter(exchange(), chain).block();
+
+        // Then
+        assertEquals(0.0, tracker.score(instance));
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/rides/1"));
+    }
+}
@@ -0,0 +1,53 @@
+package org.modsen.apigateway.unit.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modsen.apigateway.ratelimit.LocalRateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalRateLimiterUnitTest {
+
+    private LocalRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new LocalRateLimiter(null, 1, 3, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void givenBurstSpent_whenTryConsume_thenRejectedWithRetryAfter() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryConsume("service-ride", "ip:10.0.0.1").isAllowed());
+        }
+
+        // When
+        RateLimiter.Response response = rateLimiter.tryConsume("service-ride", "ip:10.0.0.1");
+
+        // Then
+        assertFalse(response.isAllowed());
+        assertEquals("0", response.getHeaders().get(LocalRateLimiter.REMAINING_HEADER));
+        assertEquals("1", response.getHeaders().get(LocalRateLimiter.RETRY_AFTER_HEADER));
+    }
+
+    @Test
+    void givenBurstSpentByOneClient_whenOtherClientConsumes_thenAllowed() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryConsume("service-ride", "ip:10.0.0.1");
+        }
+
+        // When
+        RateLimiter.Response otherClient = rateLimiter.tryConsume("service-ride", "ip:10.0.0.2");
+        RateLimiter.Response otherRoute = rateLimiter.tryConsume("service-driver", "ip:10.0.0.1");
+
+        // Then
+        assertTrue(otherClient.isAllowed());
+        assertTrue(otherRoute.isAllowed());
+        assertEquals("2", otherClient.getHeaders().get(LocalRateLimiter.REMAINING_HEADER));
+    }
+}
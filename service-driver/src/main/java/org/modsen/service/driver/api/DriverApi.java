@@ -1,6 +1,7 @@
 package org.modsen.service.driver.api;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -8,16 +9,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.modsen.service.driver.dto.request.DriverRequestDto;
 import org.modsen.service.driver.dto.response.DriverResponseDto;
+import org.modsen.service.driver.dto.response.ImportReport;
 import org.modsen.service.driver.dto.response.PageResponse;
 import org.modsen.service.driver.exception.ErrorMessage;
 import org.modsen.service.driver.exception.ValidationErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Basic methods for interacting with driver api")
@@ -57,6 +64,15 @@ public interface DriverApi {
     ResponseEntity<DriverResponseDto> getDriver(@PathVariable("id") Long id,
                                                 @AuthenticationPrincipal Jwt jwt);
 
+    @Operation(summary = "Get drivers by IDs", description = "Retrieves the drivers with the given IDs in one query. " +
+            "Unknown IDs and drivers the caller may not view are left out.")
+    @ApiResponse(responseCode = "200", description = "Drivers found",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = DriverResponseDto.class))))
+    @ApiResponse(responseCode = "400", description = "Too many IDs requested",
+            content = @Content(schema = @Schema(implementation = ErrorMessage.class)))
+    ResponseEntity<List<DriverResponseDto>> getDriversByIds(@RequestParam("ids") List<Long> ids,
+                                                            @AuthenticationPrincipal Jwt jwt);
+
     @Operation(summary = "Get all drivers", description = "Lists drivers with pagination and filtering.")
     @ApiResponse(responseCode = "200", description = "Drivers retrieved successfully",
             content = @Content(schema = @Schema(implementation = PageResponse.class)))
@@ -65,6 +81,17 @@ public interface DriverApi {
             @RequestParam(value = "size", defaultValue = "10") Integer size,
             @RequestParam(value = "sort", defaultValue = "id") String sortField,
             @RequestParam(value = "name", required = false) String name,
-            @RequestParam(value = "phone", required = false) String phone
+            @RequestParam(value = "phone", required = false) String phone,
+            @RequestParam(value = "after", required = false) String after
     );
+
+    @Operation(summary = "Import drivers", description = "Imports drivers with their cars from CSV " +
+            "(sub,name,phoneNumber,sex,color,model,number) or NDJSON and reports the outcome of every row. " +
+            "Every row names the owning account's sub, which must not own a driver yet.")
+    @ApiResponse(responseCode = "200", description = "Import processed",
+            content = @Content(schema = @Schema(implementation = ImportReport.class)))
+    @ApiResponse(responseCode = "400", description = "Malformed CSV header",
+            content = @Content(schema = @Schema(implementation = ErrorMessage.class)))
+    ResponseEntity<ImportReport> importDrivers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                               InputStream body);
 }
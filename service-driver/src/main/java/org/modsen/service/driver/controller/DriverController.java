@@ -5,10 +5,14 @@ import lombok.RequiredArgsConstructor;
 import org.modsen.service.driver.api.DriverApi;
 import org.modsen.service.driver.dto.request.DriverRequestDto;
 import org.modsen.service.driver.dto.response.DriverResponseDto;
+import org.modsen.service.driver.dto.response.ImportReport;
+import org.modsen.service.driver.service.DriverImportService;
 import org.modsen.service.driver.service.DriverService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,9 +23,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -30,6 +37,7 @@ import java.util.Map;
 public class DriverController implements DriverApi {
 
     private final DriverService driverService;
+    private final DriverImportService driverImportService;
 
     @PostMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
@@ -57,6 +65,14 @@ public class DriverController implements DriverApi {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @GetMapping("/batch")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<DriverResponseDto>> getDriversByIds(@RequestParam("ids") List<Long> ids,
+                                                                   @AuthenticationPrincipal Jwt jwt) {
+        List<DriverResponseDto> responseDto = driverService.getDrivers(ids, jwt.getSubject());
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<DriverResponseDto> getDriver(@PathVariable("id") Long id,
@@ -72,11 +88,24 @@ public class DriverController implements DriverApi {
             @RequestParam(value = "size", defaultValue = "10") Integer size,
             @RequestParam(value = "sort", defaultValue = "id") String sortField,
             @RequestParam(value = "name", required = false) String name,
-            @RequestParam(value = "phone", required = false) String phone
+            @RequestParam(value = "phone", required = false) String phone,
+            @RequestParam(value = "after", required = false) String after
     ) {
+        if (after != null) {
+            return new ResponseEntity<>(driverService.getDrivers(after, size, name, phone), HttpStatus.OK);
+        }
+
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortField));
         Map<String, Object> response = driverService.getDrivers(pageRequest, name, phone);
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportReport> importDrivers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                      InputStream body) {
+        ImportReport report = driverImportService.importDrivers(body, contentType);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+}
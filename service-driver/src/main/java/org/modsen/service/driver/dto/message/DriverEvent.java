@@ -0,0 +1,19 @@
+package org.modsen.service.driver.dto.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DriverEvent {
+    private Long id;
+    private UUID sub;
+    private boolean deleted;
+    private Instant occurredAt;
+}
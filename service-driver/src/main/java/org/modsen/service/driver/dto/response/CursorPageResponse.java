@@ -0,0 +1,16 @@
+package org.modsen.service.driver.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPageResponse {
+    private String nextCursor;
+    private Boolean hasNext;
+    private Integer pageSize;
+}
@@ -0,0 +1,18 @@
+package org.modsen.service.driver.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ImportReport {
+    private Integer total;
+    private Integer imported;
+    private Integer rejected;
+    private List<ImportRowResult> results;
+}
@@ -0,0 +1,17 @@
+package org.modsen.service.driver.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ImportRowResult {
+    private Integer row;
+    private Boolean imported;
+    private Long driverId;
+    private String message;
+}
@@ -56,6 +56,14 @@ public class ExceptionHandlerControllerAdvice {
         return new ErrorMessage(e.getMessage());
     }
 
+    @ExceptionHandler(BatchSizeExceededException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorMessage onBatchSizeExceededException(
+            BatchSizeExceededException e
+    ) {
+        return new ErrorMessage(e.getMessage());
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ErrorMessage onAccessDeniedException(
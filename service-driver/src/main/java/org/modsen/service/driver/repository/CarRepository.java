@@ -6,6 +6,5 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CarRepository extends JpaRepository<Car, Long> {
-    boolean existsByNumberAndIdNot(String number, Long id);
     Page<Car> findByModelContainingIgnoreCaseAndNumberContainingIgnoreCase(String model, String number, Pageable pageable);
 }
\ No newline at end of file
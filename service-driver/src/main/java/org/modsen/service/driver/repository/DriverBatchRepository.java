@@ -0,0 +1,18 @@
+package org.modsen.service.driver.repository;
+
+import org.modsen.service.driver.model.Car;
+import org.modsen.service.driver.model.Driver;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface DriverBatchRepository {
+    ExistingKeys findExistingKeys(Collection<UUID> subs, Collection<String> phoneNumbers,
+                                  Collection<String> carNumbers);
+    List<Driver> insertDriversIgnoringDuplicates(List<Driver> drivers);
+    List<Car> insertCarsIgnoringDuplicates(List<Car> cars);
+
+    record ExistingKeys(Set<UUID> subs, Set<String> phoneNumbers, Set<String> carNumbers) {
+    }
+}
@@ -0,0 +1,127 @@
+package org.modsen.service.driver.repository;
+
+import org.modsen.service.driver.model.Car;
+import org.modsen.service.driver.model.Driver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class DriverBatchRepositoryImpl implements DriverBatchRepository {
+
+    private static final String FIND_EXISTING_KEYS = """
+            SELECT 'sub', CAST(sub AS varchar) FROM driver WHERE sub = ANY (?)
+            UNION ALL
+            SELECT 'phone', phone_number FROM driver WHERE phone_number = ANY (?)
+            UNION ALL
+            SELECT 'car', number FROM car WHERE number = ANY (?)""";
+    private static final String NEXT_IDS =
+            "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)";
+    private static final String INSERT_DRIVER_IGNORING_DUPLICATES = """
+            INSERT INTO driver (id, sub, name, phone_number, sex) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT uk_driver_phone_number DO NOTHING""";
+    private static final String INSERT_CAR_IGNORING_DUPLICATES = """
+            INSERT INTO car (id, color, model, number, driver_id) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT uk_car_number DO NOTHING""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public DriverBatchRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                     @Value("${driver.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ExistingKeys findExistingKeys(Collection<UUID> subs, Collection<String> phoneNumbers,
+                                         Collection<String> carNumbers) {
+        Set<UUID> existingSubs = new HashSet<>();
+        Set<String> existingPhoneNumbers = new HashSet<>();
+        Set<String> existingCarNumbers = new HashSet<>();
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FIND_EXISTING_KEYS);
+            Array owners = connection.createArrayOf("uuid", subs.toArray());
+            Array phones = connection.createArrayOf("varchar", phoneNumbers.toArray());
+            Array numbers = connection.createArrayOf("varchar", carNumbers.toArray());
+            ps.setArray(1, owners);
+            ps.setArray(2, phones);
+            ps.setArray(3, numbers);
+            return ps;
+        }, rs -> {
+            switch (rs.getString(1)) {
+                case "sub" -> existingSubs.add(UUID.fromString(rs.getString(2)));
+                case "phone" -> existingPhoneNumbers.add(rs.getString(2));
+                default -> existingCarNumbers.add(rs.getString(2));
+            }
+        });
+
+        return new ExistingKeys(existingSubs, existingPhoneNumbers, existingCarNumbers);
+    }
+
+    @Override
+    public List<Driver> insertDriversIgnoringDuplicates(List<Driver> drivers) {
+        List<Long> ids = nextIds("driver", drivers.size());
+        for (int i = 0; i < drivers.size(); i++) {
+            drivers.get(i).setId(ids.get(i));
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_DRIVER_IGNORING_DUPLICATES, drivers, batchSize,
+                (ps, driver) -> {
+                    ps.setLong(1, driver.getId());
+                    ps.setObject(2, driver.getUuid());
+                    ps.setString(3, driver.getName());
+                    ps.setString(4, driver.getPhoneNumber());
+                    ps.setString(5, driver.getSex().name());
+                });
+        return inserted(drivers, counts);
+    }
+
+    @Override
+    public List<Car> insertCarsIgnoringDuplicates(List<Car> cars) {
+        List<Long> ids = nextIds("car", cars.size());
+        for (int i = 0; i < cars.size(); i++) {
+            cars.get(i).setId(ids.get(i));
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_CAR_IGNORING_DUPLICATES, cars, batchSize,
+                (ps, car) -> {
+                    ps.setLong(1, car.getId());
+                    ps.setString(2, car.getColor());
+                    ps.setString(3, car.getModel());
+                    ps.setString(4, car.getNumber());
+                    ps.setLong(5, car.getDriver().getId());
+                });
+        return inserted(cars, counts);
+    }
+
+    private List<Long> nextIds(String table, int count) {
+        if (count == 0) {
+            return List.of();
+        }
+
+        return jdbcTemplate.queryForList(NEXT_IDS, Long.class, table, count);
+    }
+
+    private <T> List<T> inserted(List<T> rows, int[][] counts) {
+        List<T> inserted = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) {
+                    inserted.add(rows.get(index));
+                }
+                index++;
+            }
+        }
+
+        return inserted;
+    }
+}
@@ -1,14 +1,36 @@
 package org.modsen.service.driver.repository;
 
 import org.modsen.service.driver.model.Driver;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
-public interface DriverRepository extends JpaRepository<Driver, Long> {
-    boolean existsByPhoneNumberAndIdNot(String number, Long id);
-    Page<Driver> findByNameContainingIgnoreCaseAndPhoneNumberContaining(String name, String phone, Pageable pageable);
+public interface DriverRepository extends JpaRepository<Driver, Long>, DriverBatchRepository {
+    Page<DriverId> findIdsByNameContainingIgnoreCaseAndPhoneNumberContaining(String name, String phone,
+                                                                             Pageable pageable);
+    Window<DriverId> findIdsByNameContainingIgnoreCaseAndPhoneNumberContaining(String name, String phone,
+                                                                               ScrollPosition position, Limit limit,
+                                                                               Sort sort);
+    @EntityGraph(attributePaths = "cars")
+    List<Driver> findWithCarsByIdIn(Collection<Long> ids);
     boolean existsByUuid(UUID uuid);
-}
\ No newline at end of file
+    List<DriverKey> findKeysByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    interface DriverId {
+        Long getId();
+    }
+
+    interface DriverKey {
+        Long getId();
+        UUID getUuid();
+    }
+}
@@ -0,0 +1,9 @@
+package org.modsen.service.driver.service;
+
+import org.modsen.service.driver.dto.response.ImportReport;
+import org.springframework.http.MediaType;
+import java.io.InputStream;
+
+public interface DriverImportService {
+    ImportReport importDrivers(InputStream body, MediaType contentType);
+}
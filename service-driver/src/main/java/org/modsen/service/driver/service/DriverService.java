@@ -4,6 +4,8 @@ import org.modsen.service.driver.dto.request.DriverRequestDto;
 import org.modsen.service.driver.dto.response.DriverResponseDto;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public interface DriverService {
@@ -15,5 +17,9 @@ public interface DriverService {
 
     DriverResponseDto getDriver(Long id, String principal);
 
+    List<DriverResponseDto> getDrivers(Collection<Long> ids, String principal);
+
     Map<String, Object> getDrivers(Pageable pageable, String name, String phone);
+
+    Map<String, Object> getDrivers(String after, Integer size, String name, String phone);
 }
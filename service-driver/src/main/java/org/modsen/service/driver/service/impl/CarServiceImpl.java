@@ -4,13 +4,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modsen.service.driver.dto.request.CarRequestDto;
 import org.modsen.service.driver.dto.response.CarResponseDto;
-import org.modsen.service.driver.exception.DuplicateResourceException;
 import org.modsen.service.driver.model.Car;
 import org.modsen.service.driver.model.Driver;
 import org.modsen.service.driver.repository.CarRepository;
 import org.modsen.service.driver.repository.DriverRepository;
 import org.modsen.service.driver.service.CarService;
 import org.modsen.service.driver.util.CarMapper;
+import org.modsen.service.driver.util.DriverProfileCache;
+import org.modsen.service.driver.util.DriverUtil;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,8 @@ public class CarServiceImpl implements CarService {
     private final CarRepository carRepository;
     private final DriverRepository driverRepository;
     private final CarMapper carMapper;
+    private final DriverUtil driverUtil;
+    private final DriverProfileCache driverProfileCache;
 
     @Override
     public CarResponseDto save(CarRequestDto car) {
@@ -36,16 +40,15 @@ public class CarServiceImpl implements CarService {
                     () -> new NoSuchElementException("Driver with id = " + car.getDriverId() + " not found"));
         }
 
-        boolean isExists = carRepository.existsByNumberAndIdNot(car.getNumber(), 0L);
-        if (isExists) {
-            throw new DuplicateResourceException("Car with number "
-                                                 + car.getNumber() + " already exists");
-        }
-
         Car carToSave = carMapper.carRequestDtoToCar(car);
         carToSave.setDriver(driver);
-        Car savedCar = carRepository.save(carToSave);
-        return carMapper.carToCarResponseDto(savedCar);
+        driverProfileCache.evict(car.getDriverId());
+        try {
+            Car savedCar = carRepository.saveAndFlush(carToSave);
+            return carMapper.carToCarResponseDto(savedCar);
+        } catch (DataIntegrityViolationException e) {
+            throw driverUtil.translateDuplicate(e, car);
+        }
     }
 
     @Override
@@ -60,26 +63,32 @@ public class CarServiceImpl implements CarService {
         Car carToChange = carRepository.findById(id)
                 .orElseThrow(()-> new NoSuchElementException("Car with id = " + id + " not found"));
 
-        boolean isExists = carRepository.existsByNumberAndIdNot(car.getNumber(), id);
-        if (isExists) {
-            throw new DuplicateResourceException("Car with number "
-                                                 + car.getNumber() + " already exists");
+        if (carToChange.getDriver() != null) {
+            driverProfileCache.evict(carToChange.getDriver().getId());
         }
+        driverProfileCache.evict(car.getDriverId());
 
         carToChange.setDriver(driver);
         carToChange.setModel(car.getModel());
         carToChange.setColor(car.getColor());
         carToChange.setNumber(car.getNumber());
 
-        return carMapper.carToCarResponseDto(carRepository.save(carToChange));
+        try {
+            return carMapper.carToCarResponseDto(carRepository.saveAndFlush(carToChange));
+        } catch (DataIntegrityViolationException e) {
+            throw driverUtil.translateDuplicate(e, car);
+        }
     }
 
     @Override
     public void deleteCar(Long id) {
         log.info("Executing delete method for car with ID: {}", id);
-        carRepository.findById(id).orElseThrow(()
+        Car car = carRepository.findById(id).orElseThrow(()
                 -> new NoSuchElementException("Car with id = " + id + " not found"));
         carRepository.deleteById(id);
+        if (car.getDriver() != null) {
+            driverProfileCache.evict(car.getDriver().getId());
+        }
     }
 
     @Override
@@ -0,0 +1,201 @@
+package org.modsen.service.driver.service.impl;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modsen.service.driver.dto.request.CarRequestDto;
+import org.modsen.service.driver.dto.request.DriverRequestDto;
+import org.modsen.service.driver.dto.response.ImportReport;
+import org.modsen.service.driver.dto.response.ImportRowResult;
+import org.modsen.service.driver.exception.DuplicateResourceException;
+import org.modsen.service.driver.model.Car;
+import org.modsen.service.driver.model.Driver;
+import org.modsen.service.driver.repository.DriverBatchRepository;
+import org.modsen.service.driver.repository.DriverRepository;
+import org.modsen.service.driver.service.DriverImportService;
+import org.modsen.service.driver.util.DriverEventPublisher;
+import org.modsen.service.driver.util.DriverImportParser;
+import org.modsen.service.driver.util.DriverMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DriverImportServiceImpl implements DriverImportService {
+
+    private final DriverImportParser driverImportParser;
+    private final DriverRepository driverRepository;
+    private final DriverMapper driverMapper;
+    private final Validator validator;
+    private final DriverEventPublisher driverEventPublisher;
+
+    @Override
+    @Transactional
+    public ImportReport importDrivers(InputStream body, MediaType contentType) {
+        List<DriverImportParser.Row> rows = driverImportParser.parse(body, contentType);
+        log.info("Starting to import {} drivers", rows.size());
+
+        Map<Integer, ImportRowResult> results = new HashMap<>();
+        List<DriverImportParser.Row> candidates = validate(rows, results);
+
+        DriverBatchRepository.ExistingKeys existing = driverRepository.findExistingKeys(
+                candidates.stream().map(DriverImportParser.Row::sub).toList(),
+                candidates.stream().map(row -> row.driver().getPhoneNumber()).toList(),
+                candidates.stream()
+                        .flatMap(row -> row.driver().getCars().stream())
+                        .map(CarRequestDto::getNumber)
+                        .toList()
+        );
+
+        Map<Driver, Integer> drivers = new LinkedHashMap<>();
+        for (DriverImportParser.Row row : candidates) {
+            String conflict = findConflict(row, existing);
+            if (conflict != null) {
+                results.put(row.number(), rejected(row.number(), conflict));
+                continue;
+            }
+
+            Driver driver = driverMapper.driverRequestDtoToDriver(row.driver());
+            driver.setUuid(row.sub());
+            driver.getCars().forEach(car -> car.setDriver(driver));
+            drivers.put(driver, row.number());
+        }
+
+        List<Driver> insertedDrivers;
+        try {
+            insertedDrivers = driverRepository.insertDriversIgnoringDuplicates(new ArrayList<>(drivers.keySet()));
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("An imported owner registered a driver during the import");
+        }
+        insertedDrivers.forEach(driverEventPublisher::publishSaved);
+        Set<Driver> skippedDrivers = new HashSet<>(drivers.keySet());
+        insertedDrivers.forEach(skippedDrivers::remove);
+        skippedDrivers.forEach(driver -> results.put(drivers.get(driver), rejected(drivers.get(driver),
+                "Driver with phone number " + driver.getPhoneNumber() + " already exists")));
+
+        List<Car> cars = insertedDrivers.stream()
+                .flatMap(driver -> driver.getCars().stream())
+                .collect(Collectors.toCollection(ArrayList::new));
+        List<Car> insertedCars = driverRepository.insertCarsIgnoringDuplicates(cars);
+        Set<Car> skippedCars = Collections.newSetFromMap(new IdentityHashMap<>());
+        skippedCars.addAll(cars);
+        insertedCars.forEach(skippedCars::remove);
+
+        for (Driver driver : insertedDrivers) {
+            String message = driver.getCars().stream()
+                    .filter(skippedCars::contains)
+                    .map(car -> "Car with number " + car.getNumber() + " already exists")
+                    .collect(Collectors.joining("; "));
+            results.put(drivers.get(driver), ImportRowResult.builder()
+                    .row(drivers.get(driver))
+                    .imported(true)
+                    .driverId(driver.getId())
+                    .message(message.isEmpty() ? null : message)
+                    .build());
+        }
+
+        List<ImportRowResult> report = results.values().stream()
+                .sorted(Comparator.comparing(ImportRowResult::getRow))
+                .toList();
+        int imported = insertedDrivers.size();
+        log.info("Imported {} of {} drivers", imported, rows.size());
+
+        return ImportReport.builder()
+                .total(rows.size())
+                .imported(imported)
+                .rejected(rows.size() - imported)
+                .results(report)
+                .build();
+    }
+
+    private List<DriverImportParser.Row> validate(List<DriverImportParser.Row> rows,
+                                                  Map<Integer, ImportRowResult> results) {
+        Set<UUID> subs = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        Set<String> carNumbers = new HashSet<>();
+        List<DriverImportParser.Row> candidates = new ArrayList<>();
+
+        for (DriverImportParser.Row row : rows) {
+            String error = row.error() != null ? row.error() : findViolation(row.driver());
+            if (error == null && !subs.add(row.sub())) {
+                error = "Duplicate owner sub in import: " + row.sub();
+            }
+            if (error == null && !phoneNumbers.add(row.driver().getPhoneNumber())) {
+                error = "Duplicate phone number in import: " + row.driver().getPhoneNumber();
+            }
+            if (error == null) {
+                error = row.driver().getCars().stream()
+                        .map(CarRequestDto::getNumber)
+                        .filter(number -> !carNumbers.add(number))
+                        .findFirst()
+                        .map(number -> "Duplicate car number in import: " + number)
+                        .orElse(null);
+            }
+
+            if (error != null) {
+                results.put(row.number(), rejected(row.number(), error));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        return candidates;
+    }
+
+    private String findViolation(DriverRequestDto driver) {
+        if (driver.getCars() == null) {
+            driver.setCars(new ArrayList<>());
+        }
+        if (driver.getSex() == null) {
+            return "Sex must not be empty";
+        }
+
+        String violations = validator.validate(driver).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return violations.isEmpty() ? null : violations;
+    }
+
+    private String findConflict(DriverImportParser.Row row, DriverBatchRepository.ExistingKeys existing) {
+        DriverRequestDto driver = row.driver();
+        if (existing.subs().contains(row.sub())) {
+            return "Owner " + row.sub() + " already has a driver";
+        }
+        if (existing.phoneNumbers().contains(driver.getPhoneNumber())) {
+            return "Driver with phone number " + driver.getPhoneNumber() + " already exists";
+        }
+
+        return driver.getCars().stream()
+                .map(CarRequestDto::getNumber)
+                .filter(existing.carNumbers()::contains)
+                .findFirst()
+                .map(number -> "Car with number " + number + " already exists")
+                .orElse(null);
+    }
+
+    private ImportRowResult rejected(int row, String message) {
+        return ImportRowResult.builder()
+                .row(row)
+                .imported(false)
+                .message(message)
+                .build();
+    }
+}
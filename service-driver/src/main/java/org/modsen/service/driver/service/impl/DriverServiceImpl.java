@@ -5,24 +5,39 @@ import lombok.extern.slf4j.Slf4j;
 import org.modsen.service.driver.dto.request.DriverRequestDto;
 import org.modsen.service.driver.dto.response.DriverResponseDto;
 import org.modsen.service.driver.exception.AccessDeniedException;
+import org.modsen.service.driver.exception.BatchSizeExceededException;
 import org.modsen.service.driver.exception.DuplicateResourceException;
 import org.modsen.service.driver.model.Driver;
 import org.modsen.service.driver.model.Sex;
 import org.modsen.service.driver.repository.DriverRepository;
 import org.modsen.service.driver.service.DriverService;
+import org.modsen.service.driver.util.CursorUtil;
+import org.modsen.service.driver.util.DriverEventPublisher;
 import org.modsen.service.driver.util.DriverMapper;
+import org.modsen.service.driver.util.DriverProfileCache;
 import org.modsen.service.driver.util.DriverUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -33,6 +48,12 @@ public class DriverServiceImpl implements DriverService {
     private final DriverUtil driverUtil;
     private final DriverMapper driverMapper;
     private final DriverRepository driverRepository;
+    private final CursorUtil cursorUtil;
+    private final DriverProfileCache driverProfileCache;
+    private final DriverEventPublisher driverEventPublisher;
+
+    @Value("${driver.batch.max-size:100}")
+    private int batchMaxSize;
 
     @Override
     public DriverResponseDto saveDriver(DriverRequestDto driver, String principal) {
@@ -52,8 +73,13 @@ public class DriverServiceImpl implements DriverService {
         driverToDatabase.getCars().forEach(car -> car.setDriver(driverToDatabase));
 
         driverToDatabase.setUuid(UUID.fromString(principal));
-        Driver save = driverRepository.save(driverToDatabase);
-        return driverMapper.driverToDriverResponseDto(save);
+        try {
+            Driver save = driverRepository.saveAndFlush(driverToDatabase);
+            driverEventPublisher.publishSaved(save);
+            return driverMapper.driverToDriverResponseDto(save);
+        } catch (DataIntegrityViolationException e) {
+            throw driverUtil.translateDuplicate(e, driver);
+        }
     }
 
 
@@ -67,17 +93,18 @@ public class DriverServiceImpl implements DriverService {
         );
 
         if (checkIsAdmin() || (driverToChange.getUuid() != null && driverToChange.getUuid().toString().equals(sub))) {
-            boolean isExists = driverRepository.existsByPhoneNumberAndIdNot(driver.getPhoneNumber(), id);
-            if (isExists) {
-                throw new DuplicateResourceException("Driver with phone number "
-                                                     + driver.getPhoneNumber() + " already exists");
-            }
-
             driverToChange.setPhoneNumber(driver.getPhoneNumber());
             driverToChange.setName(driver.getName());
             driverToChange.setSex(Sex.valueOf(driver.getSex()));
 
-            return driverMapper.driverToDriverResponseDto(driverRepository.save(driverToChange));
+            driverProfileCache.evict(id);
+            try {
+                Driver save = driverRepository.saveAndFlush(driverToChange);
+                driverEventPublisher.publishSaved(save);
+                return driverMapper.driverToDriverResponseDto(save);
+            } catch (DataIntegrityViolationException e) {
+                throw driverUtil.translateDuplicate(e, driver);
+            }
         }
 
         throw new AccessDeniedException("You can update only your profile");
@@ -92,6 +119,8 @@ public class DriverServiceImpl implements DriverService {
 
         if (checkIsAdmin() || (driver.getUuid() != null && driver.getUuid().toString().equals(sub))) {
             driverRepository.deleteById(id);
+            driverProfileCache.evict(id);
+            driverEventPublisher.publishDeleted(driver);
             return;
         }
 
@@ -102,28 +131,87 @@ public class DriverServiceImpl implements DriverService {
     @Transactional(readOnly = true)
     public DriverResponseDto getDriver(Long id, String principal) {
         log.info("Starting to fetch driver with id: {}", id);
-        Driver driver = driverRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Driver with id = " + id + " not found"));
-
-        if (checkIsAdmin() || (driver.getUuid() != null && driver.getUuid().toString().equals(principal))) {
-            return driverMapper.driverToDriverResponseDto(driver);
+        DriverProfileCache.CachedDriver driver = driverProfileCache.get(id, key -> {
+            Driver found = driverRepository.findById(key)
+                    .orElseThrow(() -> new NoSuchElementException("Driver with id = " + key + " not found"));
+            return new DriverProfileCache.CachedDriver(found.getUuid(), driverMapper.driverToDriverResponseDto(found));
+        });
+
+        if (checkIsAdmin() || (driver.uuid() != null && driver.uuid().toString().equals(principal))) {
+            return driver.driver();
         }
 
         throw new AccessDeniedException("You can view only your profile");
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<DriverResponseDto> getDrivers(Collection<Long> ids, String principal) {
+        log.info("Starting to fetch drivers with ids: {}", ids);
+        if (ids.size() > batchMaxSize) {
+            throw new BatchSizeExceededException(
+                    "At most " + batchMaxSize + " ids can be requested at once");
+        }
+
+        boolean isAdmin = checkIsAdmin();
+        return fetchWithCars(ids.stream().distinct().toList()).stream()
+                .filter(Objects::nonNull)
+                .filter(driver -> isAdmin || (driver.getUuid() != null && driver.getUuid().toString().equals(principal)))
+                .map(driverMapper::driverToDriverResponseDto)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Map<String, Object> getDrivers(Pageable pageable, String name, String phone) {
         log.info("Starting to fetch drivers with name: {} and phone: {}", name, phone);
-        Page<Driver> drivers = driverRepository.findByNameContainingIgnoreCaseAndPhoneNumberContaining(
+        Page<Long> ids = driverRepository.findIdsByNameContainingIgnoreCaseAndPhoneNumberContaining(
                 name != null ? name : "",
                 phone != null ? phone : "",
                 pageable
-        );
+        ).map(DriverRepository.DriverId::getId);
+
+        List<DriverResponseDto> drivers = fetchWithCars(ids.getContent()).stream()
+                .map(driverMapper::driverToDriverResponseDto)
+                .toList();
+
+        return driverUtil.createResponse(new PageImpl<>(drivers, pageable, ids.getTotalElements()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getDrivers(String after, Integer size, String name, String phone) {
+        log.info("Starting to scroll drivers after cursor: {} with name: {} and phone: {}", after, name, phone);
+        Window<Long> ids = driverRepository.findIdsByNameContainingIgnoreCaseAndPhoneNumberContaining(
+                name != null ? name : "",
+                phone != null ? phone : "",
+                cursorUtil.decode(after),
+                Limit.of(size),
+                cursorUtil.sort()
+        ).map(DriverRepository.DriverId::getId);
+
+        List<DriverResponseDto> drivers = fetchWithCars(ids.getContent()).stream()
+                .filter(Objects::nonNull)
+                .map(driverMapper::driverToDriverResponseDto)
+                .toList();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("drivers", drivers);
+        response.put("pageInfo", cursorUtil.createPageInfo(ids, size));
+
+        return response;
+    }
+
+    private List<Driver> fetchWithCars(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
 
-        Page<DriverResponseDto> driverResponseDto = drivers.map(driverMapper::driverToDriverResponseDto);
-        return driverUtil.createResponse(driverResponseDto);
+        Map<Long, Driver> drivers = driverRepository.findWithCarsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Driver::getId, Function.identity()));
+        return ids.stream()
+                .map(drivers::get)
+                .toList();
     }
 
     public boolean checkIsAdmin() {
@@ -0,0 +1,97 @@
+package org.modsen.service.driver.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modsen.service.driver.dto.message.DriverEvent;
+import org.modsen.service.driver.model.Driver;
+import org.modsen.service.driver.repository.DriverRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverEventPublisher {
+
+    private final DriverRepository driverRepository;
+    private final ObjectProvider<KafkaTemplate<String, DriverEvent>> kafkaTemplate;
+
+    @Value("${registry.events.enabled:true}")
+    private boolean eventsEnabled;
+
+    @Value("${registry.events.topic:driver-events}")
+    private String eventsTopic;
+
+    @Value("${registry.events.snapshot-on-startup:true}")
+    private boolean snapshotOnStartup;
+
+    @Value("${registry.events.snapshot-batch-size:1000}")
+    private int snapshotBatchSize;
+
+    public void publishSaved(Driver driver) {
+        publishAfterCommit(driver.getId(), driver.getUuid(), false);
+    }
+
+    public void publishDeleted(Driver driver) {
+        publishAfterCommit(driver.getId(), driver.getUuid(), true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishSnapshot() {
+        if (!eventsEnabled || !snapshotOnStartup) {
+            return;
+        }
+
+        Instant occurredAt = Instant.now();
+        long after = 0;
+        int published = 0;
+        List<DriverRepository.DriverKey> keys;
+        do {
+            keys = driverRepository.findKeysByIdGreaterThanOrderByIdAsc(after, Limit.of(snapshotBatchSize));
+            for (DriverRepository.DriverKey key : keys) {
+                send(new DriverEvent(key.getId(), key.getUuid(), false, occurredAt));
+                after = key.getId();
+            }
+            published += keys.size();
+        } while (keys.size() == snapshotBatchSize);
+
+        log.info("Published snapshot of {} drivers to {}", published, eventsTopic);
+    }
+
+    private void publishAfterCommit(Long id, UUID sub, boolean deleted) {
+        if (!eventsEnabled || id == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(new DriverEvent(id, sub, deleted, Instant.now()));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(new DriverEvent(id, sub, deleted, Instant.now()));
+            }
+        });
+    }
+
+    private void send(DriverEvent event) {
+        kafkaTemplate.ifAvailable(template -> template.send(eventsTopic, event.getId().toString(), event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to publish event for driver {}", event.getId(), ex);
+                    }
+                }));
+    }
+}
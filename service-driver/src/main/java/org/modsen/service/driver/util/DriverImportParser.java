@@ -0,0 +1,144 @@
+package org.modsen.service.driver.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import lombok.RequiredArgsConstructor;
+import org.modsen.service.driver.dto.request.CarRequestDto;
+import org.modsen.service.driver.dto.request.DriverRequestDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class DriverImportParser {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final List<String> CSV_HEADER =
+            List.of("sub", "name", "phoneNumber", "sex", "color", "model", "number");
+    private static final String INVALID_SUB = "Owner sub must be a UUID";
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerFor(String[].class)
+            .with(CsvParser.Feature.WRAP_AS_ARRAY)
+            .with(CsvParser.Feature.SKIP_EMPTY_LINES);
+
+    private final ObjectMapper objectMapper;
+
+    public List<Row> parse(InputStream body, MediaType contentType) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return TEXT_CSV.includes(contentType) ? parseCsv(reader) : parseNdjson(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Row> parseNdjson(BufferedReader reader) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        int number = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!(node instanceof ObjectNode driver)) {
+                    rows.add(new Row(number, null, null, "Malformed JSON line"));
+                    continue;
+                }
+                UUID sub = parseSub(driver.path("sub").asText(null));
+                driver.remove("sub");
+                rows.add(sub == null
+                        ? new Row(number, null, null, INVALID_SUB)
+                        : new Row(number, sub, objectMapper.treeToValue(driver, DriverRequestDto.class), null));
+            } catch (JsonProcessingException e) {
+                rows.add(new Row(number, null, null, "Malformed JSON line"));
+            }
+        }
+
+        return rows;
+    }
+
+    private List<Row> parseCsv(BufferedReader reader) throws IOException {
+        try (MappingIterator<String[]> records = CSV_READER.readValues(reader)) {
+            String[] header = records.hasNextValue() ? records.nextValue() : null;
+            if (header == null || !Arrays.stream(header).map(String::trim).toList().equals(CSV_HEADER)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "CSV header must be " + String.join(",", CSV_HEADER));
+            }
+
+            List<Row> rows = new ArrayList<>();
+            int number = 1;
+            while (records.hasNextValue()) {
+                number++;
+                String[] columns = records.nextValue();
+                if (columns.length != CSV_HEADER.size()) {
+                    rows.add(new Row(number, null, null, "Expected " + CSV_HEADER.size() + " columns"));
+                    continue;
+                }
+
+                UUID sub = parseSub(columns[0]);
+                rows.add(sub == null
+                        ? new Row(number, null, null, INVALID_SUB)
+                        : new Row(number, sub, toDriver(columns), null));
+            }
+
+            return rows;
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed CSV: " + e.getOriginalMessage());
+        }
+    }
+
+    private DriverRequestDto toDriver(String[] columns) {
+        List<CarRequestDto> cars = new ArrayList<>();
+        if (!columns[6].isBlank()) {
+            cars.add(CarRequestDto.builder()
+                    .color(columns[4].trim())
+                    .model(columns[5].trim())
+                    .number(columns[6].trim())
+                    .build());
+        }
+
+        return DriverRequestDto.builder()
+                .name(columns[1].trim())
+                .phoneNumber(columns[2].trim())
+                .sex(columns[3].isBlank() ? null : columns[3].trim())
+                .cars(cars)
+                .build();
+    }
+
+    private UUID parseSub(String sub) {
+        try {
+            return sub == null || sub.isBlank() ? null : UUID.fromString(sub.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One parsed import line. {@code sub} is the account that owns the imported driver, so the
+     * usual ownership checks apply to it exactly as to a self-registered one.
+     */
+    public record Row(int number, UUID sub, DriverRequestDto driver, String error) {
+    }
+}
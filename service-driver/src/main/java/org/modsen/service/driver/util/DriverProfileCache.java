@@ -0,0 +1,77 @@
+package org.modsen.service.driver.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modsen.service.driver.dto.response.DriverResponseDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverProfileCache {
+
+    private final Cache<Long, CachedDriver> driverProfiles;
+    private final ObjectProvider<KafkaTemplate<String, String>> kafkaTemplate;
+
+    @Value("${cache.profiles.invalidation.enabled:true}")
+    private boolean invalidationEnabled;
+
+    @Value("${cache.profiles.invalidation.topic:driver-profile-invalidation}")
+    private String invalidationTopic;
+
+    public CachedDriver get(Long id, Function<Long, CachedDriver> loader) {
+        return driverProfiles.get(id, loader);
+    }
+
+    public void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+
+        driverProfiles.invalidate(id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishInvalidation(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                driverProfiles.invalidate(id);
+                publishInvalidation(id);
+            }
+        });
+    }
+
+    @KafkaListener(topics = "${cache.profiles.invalidation.topic:driver-profile-invalidation}",
+            groupId = "${spring.application.name}-${random.uuid}",
+            autoStartup = "${cache.profiles.invalidation.enabled:true}")
+    public void onInvalidation(String id) {
+        driverProfiles.invalidate(Long.valueOf(id));
+    }
+
+    private void publishInvalidation(Long id) {
+        if (!invalidationEnabled) {
+            return;
+        }
+
+        kafkaTemplate.ifAvailable(template -> template.send(invalidationTopic, id.toString(), id.toString())
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to publish profile invalidation for driver {}", id, ex);
+                    }
+                }));
+    }
+
+    public record CachedDriver(UUID uuid, DriverResponseDto driver) {
+    }
+}
@@ -1,27 +1,26 @@
 package org.modsen.service.driver.util;
 
-import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.modsen.service.driver.dto.request.CarRequestDto;
 import org.modsen.service.driver.dto.request.DriverRequestDto;
 import org.modsen.service.driver.dto.response.DriverResponseDto;
 import org.modsen.service.driver.dto.response.PageResponse;
 import org.modsen.service.driver.exception.DuplicateResourceException;
-import org.modsen.service.driver.repository.CarRepository;
-import org.modsen.service.driver.repository.DriverRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 @Component
-@RequiredArgsConstructor
 public class DriverUtil {
 
-    private final DriverRepository driverRepository;
-    private final CarRepository carRepository;
+    private static final String CAR_NUMBER_CONSTRAINT = "uk_car_number";
+    private static final String DRIVER_PHONE_NUMBER_CONSTRAINT = "uk_driver_phone_number";
 
     public Map<String, Object> createResponse(Page<DriverResponseDto> drivers) {
         Map<String, Object> response = new HashMap<>();
@@ -45,15 +44,36 @@ public class DriverUtil {
             if (!carNumbers.add(car.getNumber())) {
                 throw new DuplicateResourceException("Duplicate car number found: " + car.getNumber());
             }
-
-            if (carRepository.existsByNumberAndIdNot(car.getNumber(), 0L)) {
-                throw new DuplicateResourceException("Car with number " + car.getNumber() + " already exists");
-            }
         }
+    }
+
+    public RuntimeException translateDuplicate(DataIntegrityViolationException e, DriverRequestDto driver) {
+        List<String> carNumbers = driver.getCars() == null
+                ? List.of()
+                : driver.getCars().stream().map(CarRequestDto::getNumber).toList();
+        return translateDuplicate(e, driver.getPhoneNumber(), carNumbers);
+    }
+
+    public RuntimeException translateDuplicate(DataIntegrityViolationException e, CarRequestDto car) {
+        return translateDuplicate(e, null, List.of(car.getNumber()));
+    }
 
-        boolean isExists = driverRepository.existsByPhoneNumberAndIdNot(driver.getPhoneNumber(), 0L);
-        if (isExists) {
-            throw new DuplicateResourceException("Driver with phone number " + driver.getPhoneNumber() + " already exists");
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e, String phoneNumber,
+                                                List<String> carNumbers) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        if (constraint == null) {
+            return e;
         }
+
+        return switch (constraint.toLowerCase()) {
+            case CAR_NUMBER_CONSTRAINT -> new DuplicateResourceException(carNumbers.size() == 1
+                    ? "Car with number " + carNumbers.get(0) + " already exists"
+                    : "Car with one of numbers " + String.join(", ", carNumbers) + " already exists");
+            case DRIVER_PHONE_NUMBER_CONSTRAINT -> new DuplicateResourceException(
+                    "Driver with phone number " + phoneNumber + " already exists");
+            default -> e;
+        };
     }
 }
@@ -0,0 +1,59 @@
+package org.modsen.service.driver.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.OptionalLong;
+
+/**
+ * Holds the local deadline (epoch millis on this host) of the request being served on the current
+ * thread. The {@value #HEADER} header carries the remaining budget in millis, so callers with a
+ * skewed clock cannot shorten or stretch it.
+ */
+public final class RequestDeadline {
+
+    public static final String HEADER = "X-Request-Timeout";
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void set(Long deadline) {
+        DEADLINE.set(deadline);
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    public static Long get() {
+        return DEADLINE.get();
+    }
+
+    public static OptionalLong remainingMillis() {
+        Long deadline = DEADLINE.get();
+        return deadline == null ? OptionalLong.empty() : OptionalLong.of(deadline - System.currentTimeMillis());
+    }
+
+    public static void checkNotExpired() {
+        OptionalLong remaining = remainingMillis();
+        if (remaining.isPresent() && remaining.getAsLong() <= 0) {
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Request deadline exceeded");
+        }
+    }
+
+    public static Runnable wrap(Runnable task) {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            DEADLINE.set(deadline);
+            try {
+                task.run();
+            } finally {
+                DEADLINE.remove();
+            }
+        };
+    }
+}
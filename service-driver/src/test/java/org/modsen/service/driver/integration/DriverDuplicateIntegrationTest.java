@@ -0,0 +1,91 @@
+package org.modsen.service.driver.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.service.driver.dto.request.CarRequestDto;
+import org.modsen.service.driver.dto.request.DriverRequestDto;
+import org.modsen.service.driver.exception.DuplicateResourceException;
+import org.modsen.service.driver.service.CarService;
+import org.modsen.service.driver.service.DriverService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import java.util.List;
+import java.util.UUID;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Testcontainers
+@DisplayName("Driver duplicate constraint integration tests")
+public class DriverDuplicateIntegrationTest {
+
+    @Autowired
+    private DriverService driverService;
+    @Autowired
+    private CarService carService;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgreSQLContainer
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.change-log", () -> "classpath:migrations/main-test-changelog.xml");
+    }
+
+    @Test
+    void givenExistingPhoneNumber_whenSaveDriver_thenMessageNamesPhoneNumber() {
+        // Given
+        DriverRequestDto driver = DriverRequestDto.builder()
+                .name("Kirill")
+                .phoneNumber("+1234567890")
+                .sex("M")
+                .cars(List.of())
+                .build();
+
+        // When
+        // Then
+        assertThatThrownBy(() -> driverService.saveDriver(driver, UUID.randomUUID().toString()))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Driver with phone number +1234567890 already exists");
+    }
+
+    @Test
+    void givenExistingCarNumber_whenSaveDriver_thenMessageNamesCarNumber() {
+        // Given
+        DriverRequestDto driver = DriverRequestDto.builder()
+                .name("Kirill")
+                .phoneNumber("+375291112233")
+                .sex("M")
+                .cars(List.of(new CarRequestDto("Red", "Tesla", "ABC12345", null)))
+                .build();
+
+        // When
+        // Then
+        assertThatThrownBy(() -> driverService.saveDriver(driver, UUID.randomUUID().toString()))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Car with number ABC12345 already exists");
+    }
+
+    @Test
+    void givenExistingCarNumber_whenSaveCar_thenMessageNamesCarNumber() {
+        // Given
+        CarRequestDto car = new CarRequestDto("Black", "Mercedes", "HE-333-12", null);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> carService.save(car))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Car with number HE-333-12 already exists");
+    }
+}
@@ -0,0 +1,118 @@
+package org.modsen.service.driver.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.service.driver.dto.response.CarResponseDto;
+import org.modsen.service.driver.dto.response.CursorPageResponse;
+import org.modsen.service.driver.dto.response.DriverResponseDto;
+import org.modsen.service.driver.service.CarService;
+import org.modsen.service.driver.service.DriverService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@DisplayName("Driver fetch integration tests")
+@Transactional
+public class DriverFetchIntegrationTest {
+
+    @Autowired
+    private DriverService driverService;
+    @Autowired
+    private CarService carService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgreSQLContainer
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.change-log", () -> "classpath:migrations/main-test-changelog.xml");
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void givenDriversWithCars_whenGetDrivers_thenLoadPageInBoundedStatements() {
+        // When
+        Map<String, Object> result = driverService.getDrivers(PageRequest.of(0, 10), null, null);
+
+        // Then
+        assertThat((List<?>) result.get("drivers")).hasSizeGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void givenDriversWithCars_whenScrollDrivers_thenLoadWindowInBoundedStatements() {
+        // When
+        Map<String, Object> result = driverService.getDrivers(null, 10, null, null);
+
+        // Then
+        assertThat((List<?>) result.get("drivers")).hasSizeGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void givenNextCursor_whenScrollDrivers_thenContinueAfterPreviousWindow() {
+        // Given
+        Map<String, Object> first = driverService.getDrivers(null, 1, null, null);
+        CursorPageResponse pageInfo = (CursorPageResponse) first.get("pageInfo");
+
+        // When
+        Map<String, Object> second = driverService.getDrivers(pageInfo.getNextCursor(), 1, null, null);
+
+        // Then
+        DriverResponseDto firstDriver = (DriverResponseDto) ((List<?>) first.get("drivers")).get(0);
+        DriverResponseDto secondDriver = (DriverResponseDto) ((List<?>) second.get("drivers")).get(0);
+        assertThat(pageInfo.getHasNext()).isTrue();
+        assertThat(secondDriver.getId()).isGreaterThan(firstDriver.getId());
+        assertThat(secondDriver.getCars()).isNotNull();
+    }
+
+    @Test
+    void givenCarsWithDrivers_whenFindAllCars_thenDoNotLoadDrivers() {
+        // When
+        Page<CarResponseDto> result = carService.findAll(PageRequest.of(0, 10), null, null);
+
+        // Then
+        assertThat(result.getContent()).hasSizeGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+}
@@ -0,0 +1,134 @@
+package org.modsen.service.driver.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.service.driver.util.SecurityTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureMockMvc
+@DisplayName("Driver import integration tests")
+@Transactional
+public class DriverImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String token;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgreSQLContainer
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.change-log", () -> "classpath:migrations/main-test-changelog.xml");
+    }
+
+    @BeforeEach
+    public void setUp() {
+        token = SecurityTestUtils.obtainAccessToken();
+    }
+
+    @Test
+    void givenNdjsonDrivers_whenImportDrivers_thenReportEveryRow() throws Exception {
+        // Given
+        String body = """
+                {"sub": "0b0c0d0e-0000-4000-8000-000000000001", "name": "Pam Beesly", "phoneNumber": "+1234500001", "sex": "F", "cars": [{"color": "Red", "model": "Kia Rio", "number": "IMP-0001"}]}
+                {"sub": "0b0c0d0e-0000-4000-8000-000000000002", "name": "Duplicate", "phoneNumber": "+1234567890", "sex": "M", "cars": []}
+                {"sub": "0b0c0d0e-0000-4000-8000-000000000003", "name": "Taken Car", "phoneNumber": "+1234500002", "sex": "M", "cars": [{"color": "Red", "model": "Audi A4", "number": "ABC12345"}]}
+                {"sub": "0b0c0d0e-0000-4000-8000-000000000004", "name": "Same Phone", "phoneNumber": "+1234500001", "sex": "F", "cars": []}
+                not json
+                {"name": "No Owner", "phoneNumber": "+1234500005", "sex": "F", "cars": []}
+                {"sub": "123e4567-e89b-12d3-a456-426614174001", "name": "Has Driver", "phoneNumber": "+1234500006", "sex": "M", "cars": []}
+                {"sub": "0b0c0d0e-0000-4000-8000-000000000001", "name": "Same Owner", "phoneNumber": "+1234500007", "sex": "M", "cars": []}
+                """;
+
+        // When
+        mockMvc.perform(post("/api/v1/drivers/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body)
+                        .header("Authorization", "Bearer " + token))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(8)))
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.rejected", is(7)))
+                .andExpect(jsonPath("$.results[0].imported", is(true)))
+                .andExpect(jsonPath("$.results[0].driverId", notNullValue()))
+                .andExpect(jsonPath("$.results[1].message", is("Driver with phone number +1234567890 already exists")))
+                .andExpect(jsonPath("$.results[2].message", is("Car with number ABC12345 already exists")))
+                .andExpect(jsonPath("$.results[3].message", is("Duplicate phone number in import: +1234500001")))
+                .andExpect(jsonPath("$.results[4].message", is("Malformed JSON line")))
+                .andExpect(jsonPath("$.results[5].message", is("Owner sub must be a UUID")))
+                .andExpect(jsonPath("$.results[6].message",
+                        is("Owner 123e4567-e89b-12d3-a456-426614174001 already has a driver")))
+                .andExpect(jsonPath("$.results[7].message",
+                        is("Duplicate owner sub in import: 0b0c0d0e-0000-4000-8000-000000000001")));
+
+        mockMvc.perform(get("/api/v1/drivers")
+                        .param("phone", "+1234500001")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.drivers[0].name", is("Pam Beesly")))
+                .andExpect(jsonPath("$.drivers[0].cars[0].number", is("IMP-0001")));
+    }
+
+    @Test
+    void givenCsvDrivers_whenImportDrivers_thenImportDriversWithCars() throws Exception {
+        // Given
+        String body = """
+                sub,name,phoneNumber,sex,color,model,number
+                0b0c0d0e-0000-4000-8000-000000000003,Ryan Howard,+1234500003,M,Black,Ford Focus,IMP-0003
+                0b0c0d0e-0000-4000-8000-000000000004,Kelly Kapoor,+1234500004,F,,,
+                """;
+
+        // When
+        mockMvc.perform(post("/api/v1/drivers/import")
+                        .contentType("text/csv")
+                        .content(body)
+                        .header("Authorization", "Bearer " + token))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(2)))
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.results[0].row", is(2)))
+                .andExpect(jsonPath("$.results[1].row", is(3)));
+    }
+
+    @Test
+    void givenCsvWithoutHeader_whenImportDrivers_thenReturnBadRequest() throws Exception {
+        // When
+        mockMvc.perform(post("/api/v1/drivers/import")
+                        .contentType("text/csv")
+                        .content("0b0c0d0e-0000-4000-8000-000000000003,Ryan Howard,+1234500003,M,Black,"
+                                + "Ford Focus,IMP-0003\n")
+                        .header("Authorization", "Bearer " + token))
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+}
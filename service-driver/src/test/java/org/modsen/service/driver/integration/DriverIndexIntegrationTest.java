@@ -0,0 +1,110 @@
+package org.modsen.service.driver.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.service.driver.repository.CarRepository;
+import org.modsen.service.driver.repository.DriverRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@DisplayName("Driver index usage tests")
+public class DriverIndexIntegrationTest {
+
+    @Autowired
+    private DriverRepository driverRepository;
+    @Autowired
+    private CarRepository carRepository;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgreSQLContainer
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"))
+            .withCommand("postgres", "-c", "fsync=off",
+                    "-c", "enable_seqscan=off",
+                    "-c", "shared_preload_libraries=auto_explain",
+                    "-c", "auto_explain.log_min_duration=0");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.change-log", () -> "classpath:migrations/main-test-changelog.xml");
+    }
+
+    @Test
+    void givenNameFilter_whenFindDrivers_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("driver", () -> driverRepository.findIdsByNameContainingIgnoreCaseAndPhoneNumberContaining("john", "", PageRequest.of(0, 10))))
+                .contains("idx_driver_name_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenPhoneNumberFilter_whenFindDrivers_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("driver", () -> driverRepository.findIdsByNameContainingIgnoreCaseAndPhoneNumberContaining("", "123", PageRequest.of(0, 10))))
+                .contains("idx_driver_phone_number_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenSubLookup_whenExistsByUuid_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("driver", () -> driverRepository.existsByUuid(UUID.randomUUID())))
+                .contains("uk_driver_sub")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenCarModelFilter_whenFindCars_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("car", () -> carRepository.findByModelContainingIgnoreCaseAndNumberContainingIgnoreCase("toyota", "", PageRequest.of(0, 10))))
+                .contains("idx_car_model_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenCarNumberFilter_whenFindCars_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("car", () -> carRepository.findByModelContainingIgnoreCaseAndNumberContainingIgnoreCase("", "123", PageRequest.of(0, 10))))
+                .contains("idx_car_number_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenDriverIds_whenFindWithCars_thenUsesDriverCarsIndex() throws InterruptedException {
+        assertThat(explain("driver", () -> driverRepository.findWithCarsByIdIn(List.of(1L))))
+                .contains("idx_car_driver_id")
+                .doesNotContain("Seq Scan");
+    }
+
+    private String explain(String table, Runnable repositoryCall) throws InterruptedException {
+        int offset = postgreSQLContainer.getLogs(OutputFrame.OutputType.STDERR).length();
+        repositoryCall.run();
+
+        for (int attempt = 0; attempt < 50; attempt++) {
+            String plans = Arrays.stream(postgreSQLContainer.getLogs(OutputFrame.OutputType.STDERR)
+                            .substring(offset)
+                            .split("LOG:  duration: "))
+                    .filter(plan -> plan.contains("Query Text:") && plan.contains(" from " + table + " "))
+                    .collect(Collectors.joining("\n"));
+            if (!plans.isEmpty()) {
+                return plans;
+            }
+            Thread.sleep(100);
+        }
+        return "";
+    }
+}
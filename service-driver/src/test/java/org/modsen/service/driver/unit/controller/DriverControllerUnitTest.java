@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.modsen.service.driver.controller.DriverController;
 import org.modsen.service.driver.dto.request.DriverRequestDto;
 import org.modsen.service.driver.dto.response.DriverResponseDto;
+import org.modsen.service.driver.service.DriverImportService;
 import org.modsen.service.driver.service.DriverService;
 import org.modsen.service.driver.util.DriverTestUtil;
 import org.modsen.service.driver.util.SecurityTestUtils;
@@ -47,6 +48,8 @@ public class DriverControllerUnitTest {
 
     @MockBean
     private DriverService driverService;
+    @MockBean
+    private DriverImportService driverImportService;
 
     private DriverRequestDto driverRequestDto;
     private DriverResponseDto driverResponseDto;
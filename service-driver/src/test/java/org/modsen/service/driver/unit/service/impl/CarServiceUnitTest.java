@@ -9,11 +9,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modsen.service.driver.dto.request.CarRequestDto;
 import org.modsen.service.driver.dto.response.CarResponseDto;
+import org.modsen.service.driver.exception.DuplicateResourceException;
 import org.modsen.service.driver.model.Car;
 import org.modsen.service.driver.repository.CarRepository;
 import org.modsen.service.driver.service.impl.CarServiceImpl;
 import org.modsen.service.driver.util.CarTestUtil;
 import org.modsen.service.driver.util.CarMapper;
+import org.modsen.service.driver.util.DriverProfileCache;
+import org.modsen.service.driver.util.DriverUtil;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,6 +26,7 @@ import java.util.Collections;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -34,6 +39,10 @@ public class CarServiceUnitTest {
     private CarRepository carRepository;
     @Mock
     private CarMapper carMapper;
+    @Mock
+    private DriverUtil driverUtil;
+    @Mock
+    private DriverProfileCache driverProfileCache;
 
     @InjectMocks
     private CarServiceImpl carService;
@@ -51,9 +60,8 @@ public class CarServiceUnitTest {
     @Test
     void givenValidCarRequest_whenSaveCar_thenCarIsSavedSuccessfully() {
         // Given
-        when(carRepository.existsByNumberAndIdNot("AA-7777-7", 0L)).thenReturn(false);
         when(carMapper.carRequestDtoToCar(carRequest)).thenReturn(car);
-        when(carRepository.save(car)).thenReturn(car);
+        when(carRepository.saveAndFlush(car)).thenReturn(car);
         when(carMapper.carToCarResponseDto(car)).thenReturn(carResponse);
 
         // When
@@ -62,15 +70,14 @@ public class CarServiceUnitTest {
         // Then
         assertNotNull(save);
         assertEquals(carResponse, save);
-        verify(carRepository, times(1)).save(car);
+        verify(carRepository, times(1)).saveAndFlush(car);
     }
 
     @Test
     void givenValidCarRequest_whenUpdateCar_thenCarIsUpdatedSuccessfully() {
         // Given
-        when(carRepository.existsByNumberAndIdNot(carRequest.getNumber(), 0L)).thenReturn(false);
         when(carMapper.carRequestDtoToCar(carRequest)).thenReturn(car);
-        when(carRepository.save(car)).thenReturn(car);
+        when(carRepository.saveAndFlush(car)).thenReturn(car);
         when(carMapper.carToCarResponseDto(car)).thenReturn(carResponse);
 
         // When
@@ -79,7 +86,21 @@ public class CarServiceUnitTest {
         // Then
         assertNotNull(save);
         assertEquals(carResponse, save);
-        verify(carRepository, times(1)).save(car);
+        verify(carRepository, times(1)).saveAndFlush(car);
+    }
+
+    @Test
+    void givenDuplicateCarNumber_whenSaveCar_thenThrowsDuplicateResourceException() {
+        // Given
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("uk_car_number");
+        when(carMapper.carRequestDtoToCar(carRequest)).thenReturn(car);
+        when(carRepository.saveAndFlush(car)).thenThrow(violation);
+        when(driverUtil.translateDuplicate(violation, carRequest))
+                .thenReturn(new DuplicateResourceException("Car with number AA-7777-7 already exists"));
+
+        // When
+        // Then
+        assertThrows(DuplicateResourceException.class, () -> carService.save(carRequest));
     }
 
     @Test
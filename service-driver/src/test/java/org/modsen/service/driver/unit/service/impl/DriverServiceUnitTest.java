@@ -12,6 +12,7 @@ import org.modsen.service.driver.dto.request.CarRequestDto;
 import org.modsen.service.driver.dto.request.DriverRequestDto;
 import org.modsen.service.driver.dto.response.CarResponseDto;
 import org.modsen.service.driver.dto.response.DriverResponseDto;
+import org.modsen.service.driver.exception.BatchSizeExceededException;
 import org.modsen.service.driver.exception.DuplicateResourceException;
 import org.modsen.service.driver.model.Car;
 import org.modsen.service.driver.model.Driver;
@@ -21,21 +22,29 @@ import org.modsen.service.driver.service.impl.DriverServiceImpl;
 import org.modsen.service.driver.util.DriverTestUtil;
 import org.modsen.service.driver.util.SecurityTestUtils;
 import org.modsen.service.driver.util.DriverMapper;
+import org.modsen.service.driver.util.DriverEventPublisher;
+import org.modsen.service.driver.util.DriverProfileCache;
 import org.modsen.service.driver.util.DriverUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,6 +67,12 @@ public class DriverServiceUnitTest {
     @Mock
     private DriverUtil driverUtil;
 
+    @Mock
+    private DriverProfileCache driverProfileCache;
+
+    @Mock
+    private DriverEventPublisher driverEventPublisher;
+
     @InjectMocks
     private DriverServiceImpl driverService;
 
@@ -85,7 +100,7 @@ public class DriverServiceUnitTest {
         // given
         when(driverMapper.driverRequestDtoToDriver(driverRequest)).thenReturn(driver);
         when(driverMapper.driverToDriverResponseDto(driver)).thenReturn(driverResponse);
-        when(driverRepository.save(driver)).thenReturn(driver);
+        when(driverRepository.saveAndFlush(driver)).thenReturn(driver);
 
         // when
         DriverResponseDto savedDriver = driverService.saveDriver(driverRequest, "37bf1ec1-641c-47f4-9ea6-1eeb92c0399c");
@@ -93,7 +108,7 @@ public class DriverServiceUnitTest {
         // then
         assertNotNull(savedDriver);
         assertEquals(driverResponse, savedDriver);
-        verify(driverRepository, times(1)).save(driver);
+        verify(driverRepository, times(1)).saveAndFlush(driver);
     }
 
     @Test
@@ -110,8 +125,7 @@ public class DriverServiceUnitTest {
         // given
         SecurityTestUtils.setUpSecurityContextWithRole("ROLE_USER");
         when(driverRepository.findById(1L)).thenReturn(Optional.of(driver));
-        when(driverRepository.existsByPhoneNumberAndIdNot(driverRequest.getPhoneNumber(), 1L)).thenReturn(false);
-        when(driverRepository.save(driver)).thenReturn(driver);
+        when(driverRepository.saveAndFlush(driver)).thenReturn(driver);
         when(driverMapper.driverToDriverResponseDto(driver)).thenReturn(driverResponse);
 
         // when
@@ -120,7 +134,7 @@ public class DriverServiceUnitTest {
         // then
         assertNotNull(updatedDriver);
         assertEquals(driverResponse, updatedDriver);
-        verify(driverRepository, times(1)).save(driver);
+        verify(driverRepository, times(1)).saveAndFlush(driver);
     }
 
     @Test
@@ -134,12 +148,16 @@ public class DriverServiceUnitTest {
 
         // then
         verify(driverRepository, times(1)).deleteById(1L);
+        verify(driverEventPublisher, times(1)).publishDeleted(driver);
     }
 
     @Test
     void givenDriverId_whenGetDriver_thenReturnDriver() {
         // given
         SecurityTestUtils.setUpSecurityContextWithRole("ROLE_USER");
+        when(driverProfileCache.get(eq(1L), any()))
+                .thenAnswer(invocation -> invocation.<Function<Long, DriverProfileCache.CachedDriver>>getArgument(1)
+                        .apply(1L));
         when(driverRepository.findById(1L)).thenReturn(Optional.of(driver));
         when(driverMapper.driverToDriverResponseDto(driver)).thenReturn(driverResponse);
 
@@ -156,9 +174,11 @@ public class DriverServiceUnitTest {
     void givenValidSearchCriteria_whenGetDrivers_thenReturnFilteredDrivers() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Driver> drivers = new PageImpl<>(Collections.singletonList(driver));
-        when(driverRepository.findByNameContainingIgnoreCaseAndPhoneNumberContaining(
-                any(String.class), any(String.class), eq(pageable))).thenReturn(drivers);
+        DriverRepository.DriverId driverId = () -> 1L;
+        Page<DriverRepository.DriverId> ids = new PageImpl<>(Collections.singletonList(driverId));
+        when(driverRepository.findIdsByNameContainingIgnoreCaseAndPhoneNumberContaining(
+                any(String.class), any(String.class), eq(pageable))).thenReturn(ids);
+        when(driverRepository.findWithCarsByIdIn(List.of(1L))).thenReturn(List.of(driver));
         when(driverMapper.driverToDriverResponseDto(driver)).thenReturn(driverResponse);
 
         // when
@@ -167,6 +187,39 @@ public class DriverServiceUnitTest {
         // then
         assertNotNull(result);
         verify(driverRepository, times(1))
-                .findByNameContainingIgnoreCaseAndPhoneNumberContaining("Kirill", "", pageable);
+                .findIdsByNameContainingIgnoreCaseAndPhoneNumberContaining("Kirill", "", pageable);
+        verify(driverRepository, times(1)).findWithCarsByIdIn(List.of(1L));
+    }
+
+    @Test
+    void givenForeignAndOwnDriverIds_whenGetDriversByIds_thenReturnOnlyOwnDriver() {
+        // given
+        ReflectionTestUtils.setField(driverService, "batchMaxSize", 100);
+        SecurityTestUtils.setUpSecurityContextWithRole("ROLE_USER");
+        Driver foreignDriver = Driver.builder()
+                .id(2L)
+                .uuid(UUID.randomUUID())
+                .build();
+        when(driverRepository.findWithCarsByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(driver, foreignDriver));
+        when(driverMapper.driverToDriverResponseDto(driver)).thenReturn(driverResponse);
+
+        // when
+        List<DriverResponseDto> drivers = driverService.getDrivers(List.of(1L, 2L, 3L, 1L), driver.getUuid().toString());
+
+        // then
+        assertEquals(List.of(driverResponse), drivers);
+        verify(driverRepository, times(1)).findWithCarsByIdIn(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void givenTooManyIds_whenGetDriversByIds_thenThrowBatchSizeExceededException() {
+        // given
+        ReflectionTestUtils.setField(driverService, "batchMaxSize", 1);
+
+        // when
+        // then
+        assertThrows(BatchSizeExceededException.class,
+                () -> driverService.getDrivers(List.of(1L, 2L), driver.getUuid().toString()));
+        verify(driverRepository, never()).findWithCarsByIdIn(anyList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package org.modsen.service.driver.unit.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.service.driver.util.DriverImportParser;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Driver import parser unit tests")
+public class DriverImportParserUnitTest {
+
+    private static final String HEADER = "sub,name,phoneNumber,sex,color,model,number\n";
+    private static final String SUB = "0b0c0d0e-0000-4000-8000-000000000001";
+
+    private final DriverImportParser parser = new DriverImportParser(new ObjectMapper());
+
+    @Test
+    void givenQuotedFieldsWithCommas_whenParseCsv_thenColumnsKeptInPlace() {
+        // Given
+        String body = HEADER + SUB + ",\"Howard, Ryan\",+1234500003,M,Black,\"Ford Focus, 2019\",IMP-0003\n";
+
+        // When
+        List<DriverImportParser.Row> rows = parse(body);
+
+        // Then
+        assertEquals(1, rows.size());
+        DriverImportParser.Row row = rows.get(0);
+        assertNull(row.error());
+        assertEquals(UUID.fromString(SUB), row.sub());
+        assertEquals("Howard, Ryan", row.driver().getName());
+        assertEquals("+1234500003", row.driver().getPhoneNumber());
+        assertEquals("Ford Focus, 2019", row.driver().getCars().get(0).getModel());
+        assertEquals("IMP-0003", row.driver().getCars().get(0).getNumber());
+    }
+
+    @Test
+    void givenWrongColumnCount_whenParseCsv_thenRowRejected() {
+        // Given
+        String body = HEADER + SUB + ",Ryan Howard,+1234500003,M\n" + SUB + ",Kelly Kapoor,+1234500004,F,,,\n";
+
+        // When
+        List<DriverImportParser.Row> rows = parse(body);
+
+        // Then
+        assertEquals("Expected 7 columns", rows.get(0).error());
+        assertEquals(2, rows.get(0).number());
+        assertNull(rows.get(1).error());
+        assertTrue(rows.get(1).driver().getCars().isEmpty());
+    }
+
+    @Test
+    void givenMissingSub_whenParseCsv_thenRowRejected() {
+        // Given
+        String body = HEADER + ",Ryan Howard,+1234500003,M,,,\n";
+
+        // When
+        List<DriverImportParser.Row> rows = parse(body);
+
+        // Then
+        assertEquals("Owner sub must be a UUID", rows.get(0).error());
+    }
+
+    @Test
+    void givenUnterminatedQuote_whenParseCsv_thenBadRequest() {
+        // Given
+        String body = HEADER + SUB + ",\"Ryan Howard,+1234500003,M,,,\n";
+
+        // When
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> parse(body));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    private List<DriverImportParser.Row> parse(String body) {
+        return parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                DriverImportParser.TEXT_CSV);
+    }
+}
@@ -0,0 +1,92 @@
+package org.modsen.service.driver.unit.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modsen.service.driver.dto.response.DriverResponseDto;
+import org.modsen.service.driver.util.DriverProfileCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Driver profile cache unit tests")
+public class DriverProfileCacheUnitTest {
+
+    @Mock
+    private ObjectProvider<KafkaTemplate<String, String>> kafkaTemplateProvider;
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private Cache<Long, DriverProfileCache.CachedDriver> cache;
+    private DriverProfileCache driverProfileCache;
+    private DriverProfileCache.CachedDriver cachedDriver;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().build();
+        driverProfileCache = new DriverProfileCache(cache, kafkaTemplateProvider);
+        ReflectionTestUtils.setField(driverProfileCache, "invalidationEnabled", true);
+        ReflectionTestUtils.setField(driverProfileCache, "invalidationTopic", "driver-profile-invalidation");
+        cachedDriver = new DriverProfileCache.CachedDriver(UUID.randomUUID(), new DriverResponseDto());
+    }
+
+    @Test
+    void givenCachedDriver_whenGet_thenDoNotCallLoader() {
+        // Given
+        cache.put(1L, cachedDriver);
+
+        // When
+        DriverProfileCache.CachedDriver result = driverProfileCache.get(1L, id -> {
+            throw new AssertionError("Loader must not be called");
+        });
+
+        // Then
+        assertSame(cachedDriver, result);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenCachedDriver_whenEvict_thenInvalidateAndPublish() {
+        // Given
+        cache.put(1L, cachedDriver);
+        doAnswer(invocation -> {
+            invocation.<Consumer<KafkaTemplate<String, String>>>getArgument(0).accept(kafkaTemplate);
+            return null;
+        }).when(kafkaTemplateProvider).ifAvailable(any(Consumer.class));
+        when(kafkaTemplate.send("driver-profile-invalidation", "1", "1")).thenReturn(new CompletableFuture<>());
+
+        // When
+        driverProfileCache.evict(1L);
+
+        // Then
+        assertNull(cache.getIfPresent(1L));
+        verify(kafkaTemplate).send("driver-profile-invalidation", "1", "1");
+    }
+
+    @Test
+    void givenInvalidationMessage_whenOnInvalidation_thenInvalidateLocally() {
+        // Given
+        cache.put(1L, cachedDriver);
+
+        // When
+        driverProfileCache.onInvalidation("1");
+
+        // Then
+        assertNull(cache.getIfPresent(1L));
+    }
+}
@@ -2,6 +2,7 @@ package org.modsen.servicepassenger.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +17,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import java.util.List;
 import java.util.Map;
 
 public interface PassengerApi {
@@ -31,7 +33,9 @@ public interface PassengerApi {
             @Parameter(description = "Filter by email") @RequestParam(value = "email", required = false) String email,
             @Parameter(description = "Filter by name") @RequestParam(value = "name", required = false) String name,
             @Parameter(description = "Filter by phone number") @RequestParam(value = "phone", required = false) String phone,
-            @Parameter(description = "Filter by delete status") @RequestParam(value = "isDeleted", defaultValue = "false") Boolean isDeleted);
+            @Parameter(description = "Filter by delete status") @RequestParam(value = "isDeleted", defaultValue = "false") Boolean isDeleted,
+            @Parameter(description = "Opaque cursor from the previous response, switches to keyset pagination by id")
+            @RequestParam(value = "after", required = false) String after);
 
     @Operation(summary = "Get passenger by ID", description = "Retrieve a passenger by its ID.")
     @ApiResponse(responseCode = "200", description = "Passenger found by id",
@@ -40,6 +44,15 @@ public interface PassengerApi {
     ResponseEntity<PassengerResponseDto> findById(@PathVariable("id") Long id,
                                                   @AuthenticationPrincipal Jwt jwt);
 
+    @Operation(summary = "Get passengers by IDs", description = "Retrieve the passengers with the given IDs in one query. " +
+            "Unknown, deleted and inaccessible passengers are left out.")
+    @ApiResponse(responseCode = "200", description = "Passengers found by ids",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = PassengerResponseDto.class))))
+    @ApiResponse(responseCode = "400", description = "Too many ids requested", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<List<PassengerResponseDto>> findByIds(@RequestParam("ids") List<Long> ids,
+                                                         @AuthenticationPrincipal Jwt jwt);
+
     @Operation(summary = "Create a new passenger", description = "Create a new passenger with the provided details.")
     @ApiResponse(responseCode = "201", description = "Passenger created successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = PassengerResponseDto.class)))
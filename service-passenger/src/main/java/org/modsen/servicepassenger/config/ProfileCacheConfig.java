@@ -0,0 +1,31 @@
+package org.modsen.servicepassenger.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.modsen.servicepassenger.util.PassengerProfileCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+public class ProfileCacheConfig {
+
+    @Value("${cache.profiles.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${cache.profiles.ttl:60s}")
+    private Duration ttl;
+
+    @Bean
+    public Cache<Long, PassengerProfileCache.CachedPassenger> passengerProfiles(MeterRegistry meterRegistry) {
+        Cache<Long, PassengerProfileCache.CachedPassenger> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "passengerProfiles");
+    }
+}
@@ -0,0 +1,42 @@
+package org.modsen.servicepassenger.config;
+
+import org.modsen.servicepassenger.util.RequestDeadline;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import java.util.OptionalLong;
+
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager() {
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+                RequestDeadline.checkNotExpired();
+                super.doBegin(transaction, definition);
+            }
+
+            @Override
+            protected int determineTimeout(TransactionDefinition definition) {
+                int timeout = super.determineTimeout(definition);
+                OptionalLong remaining = RequestDeadline.remainingMillis();
+                if (remaining.isEmpty()) {
+                    return timeout;
+                }
+                int remainingSeconds = (int) Math.max(1, Math.ceil(remaining.getAsLong() / 1000.0));
+                return timeout == TransactionDefinition.TIMEOUT_DEFAULT
+                        ? remainingSeconds
+                        : Math.min(timeout, remainingSeconds);
+            }
+        };
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -40,7 +41,12 @@ public class PassengerController implements PassengerApi {
             @RequestParam(value = "email", required = false) String email,
             @RequestParam(value = "name", required = false) String name,
             @RequestParam(value = "phone", required = false) String phone,
-            @RequestParam(value = "isDeleted", defaultValue = "false") Boolean isDeleted) {
+            @RequestParam(value = "isDeleted", defaultValue = "false") Boolean isDeleted,
+            @RequestParam(value = "after", required = false) String after) {
+
+        if (after != null) {
+            return ResponseEntity.ok(passengerService.findAll(after, size, email, name, phone, isDeleted));
+        }
 
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortField));
         Map<String, Object> response = passengerService.findAll(pageRequest, email, name, phone, isDeleted);
@@ -49,6 +55,13 @@ public class PassengerController implements PassengerApi {
     }
 
 
+    @GetMapping("/batch")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<PassengerResponseDto>> findByIds(@RequestParam("ids") List<Long> ids,
+                                                                @AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(passengerService.findAllByIds(ids, jwt.getSubject()));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<PassengerResponseDto> findById(@PathVariable("id") Long id,
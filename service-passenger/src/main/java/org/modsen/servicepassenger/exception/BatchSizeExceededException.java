@@ -0,0 +1,7 @@
+package org.modsen.servicepassenger.exception;
+
+public class BatchSizeExceededException extends RuntimeException {
+    public BatchSizeExceededException(String message) {
+        super(message);
+    }
+}
@@ -19,6 +19,12 @@ public class ExceptionHandlerControllerAdvice {
         return new ErrorResponse(e.getMessage());
     }
 
+    @ExceptionHandler(BatchSizeExceededException.class)
+    @ResponseStatus(code = HttpStatus.BAD_REQUEST)
+    public ErrorResponse batchSizeExceededException(BatchSizeExceededException e) {
+        return new ErrorResponse(e.getMessage());
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     @ResponseStatus(code = HttpStatus.NOT_FOUND)
     public ErrorResponse noSuchElementException(NoSuchElementException e) {
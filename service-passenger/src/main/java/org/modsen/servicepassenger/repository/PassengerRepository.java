@@ -1,16 +1,25 @@
 package org.modsen.servicepassenger.repository;
 
 import org.modsen.servicepassenger.model.Passenger;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface PassengerRepository extends JpaRepository<Passenger, Long> {
     Optional<Passenger> findByIdAndIsDeletedFalse(Long id);
 
-    boolean existsByEmailAndIdNot(String email, Long id);
-
-    boolean existsByPhoneNumberAndIdNot(String phone, Long id);
+    List<Passenger> findAllByIdInAndIsDeletedFalse(Collection<Long> ids);
 
     boolean existsBySub(UUID sub);
+
+    List<PassengerKey> findKeysByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    interface PassengerKey {
+        Long getId();
+        UUID getSub();
+        Boolean getIsDeleted();
+    }
 }
\ No newline at end of file
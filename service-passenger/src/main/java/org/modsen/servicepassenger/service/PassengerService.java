@@ -4,13 +4,19 @@ import org.modsen.servicepassenger.dto.request.PassengerRequestDto;
 import org.modsen.servicepassenger.dto.response.PassengerResponseDto;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public interface PassengerService {
     PassengerResponseDto findById(Long id, String subject);
 
+    List<PassengerResponseDto> findAllByIds(Collection<Long> ids, String subject);
+
     Map<String, Object> findAll(Pageable pageable, String email, String name, String phone, Boolean isDeleted);
 
+    Map<String, Object> findAll(String after, Integer size, String email, String name, String phone, Boolean isDeleted);
+
     PassengerResponseDto save(PassengerRequestDto passengerRequestDto, String subject);
 
     PassengerResponseDto update(Long id, PassengerRequestDto passengerRequestDto, String subject);
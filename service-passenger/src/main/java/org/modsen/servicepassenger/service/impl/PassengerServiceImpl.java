@@ -6,20 +6,29 @@ import org.modsen.servicepassenger.dto.request.PassengerRequestDto;
 import org.modsen.servicepassenger.dto.response.PageResponse;
 import org.modsen.servicepassenger.dto.response.PassengerResponseDto;
 import org.modsen.servicepassenger.exception.AccessDeniedException;
+import org.modsen.servicepassenger.exception.BatchSizeExceededException;
 import org.modsen.servicepassenger.mapper.PassengerMapper;
 import org.modsen.servicepassenger.model.Passenger;
 import org.modsen.servicepassenger.repository.PassengerRepository;
 import org.modsen.servicepassenger.service.PassengerService;
+import org.modsen.servicepassenger.util.CursorUtil;
+import org.modsen.servicepassenger.util.PassengerEventPublisher;
+import org.modsen.servicepassenger.util.PassengerProfileCache;
 import org.modsen.servicepassenger.util.PassengerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -33,21 +42,51 @@ public class PassengerServiceImpl implements PassengerService {
     private final PassengerUtil passengerUtil;
     private final PassengerMapper passengerMapper;
     private final PassengerRepository passengerRepository;
+    private final CursorUtil cursorUtil;
+    private final PassengerProfileCache passengerProfileCache;
+    private final PassengerEventPublisher passengerEventPublisher;
+
+    @Value("${passenger.batch.max-size:100}")
+    private int batchMaxSize;
 
     @Override
     @Transactional(readOnly = true)
     public PassengerResponseDto findById(Long id, String subject) {
         log.info("Finding passenger by id: {}", id);
-        Passenger passenger = passengerRepository.findByIdAndIsDeletedFalse(id)
-                .orElseThrow(() -> new NoSuchElementException("Passenger with id = " + id + " not found"));
-
-        if (checkIsAdmin() || (passenger.getSub() != null && passenger.getSub().toString().equals(subject))) {
-            return passengerMapper.toPassengerResponseDto(passenger);
+        PassengerProfileCache.CachedPassenger passenger = passengerProfileCache.get(id, key -> {
+            Passenger found = passengerRepository.findByIdAndIsDeletedFalse(key)
+                    .orElseThrow(() -> new NoSuchElementException("Passenger with id = " + key + " not found"));
+            return new PassengerProfileCache.CachedPassenger(found.getSub(),
+                    passengerMapper.toPassengerResponseDto(found));
+        });
+
+        if (checkIsAdmin() || (passenger.sub() != null && passenger.sub().toString().equals(subject))) {
+            return passenger.passenger();
         }
 
         throw new AccessDeniedException("You can view only your profile");
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PassengerResponseDto> findAllByIds(Collection<Long> ids, String subject) {
+        log.info("Finding passengers by ids: {}", ids);
+        if (ids.size() > batchMaxSize) {
+            throw new BatchSizeExceededException(
+                    "At most " + batchMaxSize + " ids can be requested at once");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        boolean isAdmin = checkIsAdmin();
+        return passengerRepository.findAllByIdInAndIsDeletedFalse(ids).stream()
+                .filter(passenger -> isAdmin
+                                     || (passenger.getSub() != null && passenger.getSub().toString().equals(subject)))
+                .map(passengerMapper::toPassengerResponseDto)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Map<String, Object> findAll(Pageable pageable,
@@ -75,6 +114,31 @@ public class PassengerServiceImpl implements PassengerService {
         return response;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> findAll(String after,
+                                       Integer size,
+                                       String email,
+                                       String name,
+                                       String phone,
+                                       Boolean isDeleted) {
+        log.info("Scrolling passengers after cursor: {} with filters: email={}, name={}, phone={}, isDeleted={}",
+                after, email, name, phone, isDeleted);
+        Example<Passenger> example = passengerUtil.createPassengerExample(email, name, phone, isDeleted);
+
+        Window<PassengerResponseDto> passengerWindow = passengerRepository.findBy(example, query -> query
+                        .sortBy(cursorUtil.sort())
+                        .limit(size)
+                        .scroll(cursorUtil.decode(after)))
+                .map(passengerMapper::toPassengerResponseDto);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("passengers", passengerWindow.getContent());
+        response.put("pageInfo", cursorUtil.createPageInfo(passengerWindow, size));
+
+        return response;
+    }
+
     @Override
     public PassengerResponseDto save(PassengerRequestDto passengerRequestDto,
                                      String subject) {
@@ -84,14 +148,18 @@ public class PassengerServiceImpl implements PassengerService {
         if(isExist) {
             throw new AccessDeniedException("You already have an account");
         }
-        passengerUtil.extracted(passengerRequestDto, 0L);
 
         Passenger passenger = passengerMapper.toPassenger(passengerRequestDto);
         passenger.setIsDeleted(false);
         passenger.setSub(UUID.fromString(subject));
 
-        Passenger savedPassenger = passengerRepository.save(passenger);
-        return passengerMapper.toPassengerResponseDto(savedPassenger);
+        try {
+            Passenger savedPassenger = passengerRepository.saveAndFlush(passenger);
+            passengerEventPublisher.publish(savedPassenger);
+            return passengerMapper.toPassengerResponseDto(savedPassenger);
+        } catch (DataIntegrityViolationException e) {
+            throw passengerUtil.translateDuplicate(e, passengerRequestDto);
+        }
     }
 
     @Override
@@ -103,15 +171,19 @@ public class PassengerServiceImpl implements PassengerService {
                 () -> new NoSuchElementException("Passenger with id = " + id + " not found"));
 
         if (checkIsAdmin() || (passenger.getSub() != null && passenger.getSub().toString().equals(subject))) {
-            passengerUtil.extracted(passengerRequestDto, id);
-
+            passengerProfileCache.evict(id);
             passenger.setEmail(passengerRequestDto.getEmail());
             passenger.setFirstName(passengerRequestDto.getFirstName());
             passenger.setLastName(passengerRequestDto.getLastName());
             passenger.setPhoneNumber(passengerRequestDto.getPhoneNumber());
 
-            Passenger savedPassenger = passengerRepository.save(passenger);
-            return passengerMapper.toPassengerResponseDto(savedPassenger);
+            try {
+                Passenger savedPassenger = passengerRepository.saveAndFlush(passenger);
+                passengerEventPublisher.publish(savedPassenger);
+                return passengerMapper.toPassengerResponseDto(savedPassenger);
+            } catch (DataIntegrityViolationException e) {
+                throw passengerUtil.translateDuplicate(e, passengerRequestDto);
+            }
         }
         throw new AccessDeniedException("You can update only your profile");
     }
@@ -125,6 +197,8 @@ public class PassengerServiceImpl implements PassengerService {
         if (checkIsAdmin() || (passenger.getSub() != null && passenger.getSub().toString().equals(subject))) {
             passenger.setIsDeleted(true);
             passengerRepository.save(passenger);
+            passengerProfileCache.evict(id);
+            passengerEventPublisher.publish(passenger);
             return;
         }
 
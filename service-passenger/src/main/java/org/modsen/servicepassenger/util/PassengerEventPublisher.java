@@ -0,0 +1,93 @@
+package org.modsen.servicepassenger.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modsen.servicepassenger.dto.message.PassengerEvent;
+import org.modsen.servicepassenger.model.Passenger;
+import org.modsen.servicepassenger.repository.PassengerRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PassengerEventPublisher {
+
+    private final PassengerRepository passengerRepository;
+    private final ObjectProvider<KafkaTemplate<String, PassengerEvent>> kafkaTemplate;
+
+    @Value("${registry.events.enabled:true}")
+    private boolean eventsEnabled;
+
+    @Value("${registry.events.topic:passenger-events}")
+    private String eventsTopic;
+
+    @Value("${registry.events.snapshot-on-startup:true}")
+    private boolean snapshotOnStartup;
+
+    @Value("${registry.events.snapshot-batch-size:1000}")
+    private int snapshotBatchSize;
+
+    public void publish(Passenger passenger) {
+        publishAfterCommit(passenger.getId(), passenger.getSub(), Boolean.TRUE.equals(passenger.getIsDeleted()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishSnapshot() {
+        if (!eventsEnabled || !snapshotOnStartup) {
+            return;
+        }
+
+        Instant occurredAt = Instant.now();
+        long after = 0;
+        int published = 0;
+        List<PassengerRepository.PassengerKey> keys;
+        do {
+            keys = passengerRepository.findKeysByIdGreaterThanOrderByIdAsc(after, Limit.of(snapshotBatchSize));
+            for (PassengerRepository.PassengerKey key : keys) {
+                send(new PassengerEvent(key.getId(), key.getSub(), Boolean.TRUE.equals(key.getIsDeleted()), occurredAt));
+                after = key.getId();
+            }
+            published += keys.size();
+        } while (keys.size() == snapshotBatchSize);
+
+        log.info("Published snapshot of {} passengers to {}", published, eventsTopic);
+    }
+
+    private void publishAfterCommit(Long id, UUID sub, boolean deleted) {
+        if (!eventsEnabled || id == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(new PassengerEvent(id, sub, deleted, Instant.now()));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(new PassengerEvent(id, sub, deleted, Instant.now()));
+            }
+        });
+    }
+
+    private void send(PassengerEvent event) {
+        kafkaTemplate.ifAvailable(template -> template.send(eventsTopic, event.getId().toString(), event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to publish event for passenger {}", event.getId(), ex);
+                    }
+                }));
+    }
+}
@@ -1,32 +1,35 @@
 package org.modsen.servicepassenger.util;
 
-import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.modsen.servicepassenger.dto.request.PassengerRequestDto;
 import org.modsen.servicepassenger.exception.DuplicateResourceException;
 import org.modsen.servicepassenger.model.Passenger;
-import org.modsen.servicepassenger.repository.PassengerRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class PassengerUtil {
 
-    private final PassengerRepository passengerRepository;
+    private static final String EMAIL_CONSTRAINT = "uk_passenger_email";
+    private static final String PHONE_NUMBER_CONSTRAINT = "uk_passenger_phone_number";
 
-    public void extracted(PassengerRequestDto passengerRequestDto, Long id) {
-        boolean isExisted = passengerRepository.existsByEmailAndIdNot(passengerRequestDto.getEmail(), id);
-        if (isExisted) {
-            throw new DuplicateResourceException("Passenger with " +
-                                                 passengerRequestDto.getEmail() + " already exists");
+    public RuntimeException translateDuplicate(DataIntegrityViolationException e, PassengerRequestDto passenger) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        if (constraint == null) {
+            return e;
         }
 
-        isExisted = passengerRepository.existsByPhoneNumberAndIdNot(passengerRequestDto.getPhoneNumber(), id);
-        if (isExisted) {
-            throw new DuplicateResourceException("Passenger with " +
-                                                 passengerRequestDto.getPhoneNumber() + " already exists");
-        }
+        return switch (constraint.toLowerCase()) {
+            case EMAIL_CONSTRAINT -> new DuplicateResourceException(
+                    "Passenger with " + passenger.getEmail() + " already exists");
+            case PHONE_NUMBER_CONSTRAINT -> new DuplicateResourceException(
+                    "Passenger with " + passenger.getPhoneNumber() + " already exists");
+            default -> e;
+        };
     }
 
     public Example<Passenger> createPassengerExample(String email, String name, String phone, Boolean isDeleted) {
@@ -0,0 +1,66 @@
+package org.modsen.servicepassenger.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.servicepassenger.dto.request.PassengerRequestDto;
+import org.modsen.servicepassenger.exception.DuplicateResourceException;
+import org.modsen.servicepassenger.service.PassengerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import java.util.UUID;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Testcontainers
+@DisplayName("Passenger duplicate constraint integration tests")
+public class PassengerDuplicateIntegrationTest {
+
+    @Autowired
+    private PassengerService passengerService;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgreSQLContainer
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.change-log", () -> "classpath:migrations/db.main-changelog.xml");
+    }
+
+    @Test
+    void givenExistingEmail_whenSave_thenMessageNamesEmail() {
+        // Given
+        PassengerRequestDto passenger = new PassengerRequestDto(
+                "Kirill", "Husakou", "kirillov.kirillov@example.com", "+375291112233");
+
+        // When
+        // Then
+        assertThatThrownBy(() -> passengerService.save(passenger, UUID.randomUUID().toString()))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Passenger with kirillov.kirillov@example.com already exists");
+    }
+
+    @Test
+    void givenExistingPhoneNumber_whenSave_thenMessageNamesPhoneNumber() {
+        // Given
+        PassengerRequestDto passenger = new PassengerRequestDto(
+                "Kirill", "Husakou", "husakou@example.com", "+109876888881");
+
+        // When
+        // Then
+        assertThatThrownBy(() -> passengerService.save(passenger, UUID.randomUUID().toString()))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Passenger with +109876888881 already exists");
+    }
+}
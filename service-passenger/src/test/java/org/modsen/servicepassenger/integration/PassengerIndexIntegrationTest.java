@@ -0,0 +1,98 @@
+package org.modsen.servicepassenger.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.servicepassenger.repository.PassengerRepository;
+import org.modsen.servicepassenger.util.PassengerUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@DisplayName("Passenger index usage tests")
+public class PassengerIndexIntegrationTest {
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+    @Autowired
+    private PassengerUtil passengerUtil;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgreSQLContainer
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"))
+            .withCommand("postgres", "-c", "fsync=off",
+                    "-c", "enable_seqscan=off",
+                    "-c", "shared_preload_libraries=auto_explain",
+                    "-c", "auto_explain.log_min_duration=0");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.change-log", () -> "classpath:migrations/db.main-changelog.xml");
+    }
+
+    @Test
+    void givenEmailFilter_whenFindPassengers_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("passenger", () -> passengerRepository.findAll(
+                passengerUtil.createPassengerExample("mail", null, null, null), PageRequest.of(0, 10))))
+                .contains("idx_passenger_email_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenFirstNameFilter_whenFindPassengers_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("passenger", () -> passengerRepository.findAll(
+                passengerUtil.createPassengerExample(null, "john", null, null), PageRequest.of(0, 10))))
+                .contains("idx_passenger_first_name_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenPhoneNumberFilter_whenFindPassengers_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("passenger", () -> passengerRepository.findAll(
+                passengerUtil.createPassengerExample(null, null, "123", null), PageRequest.of(0, 10))))
+                .contains("idx_passenger_phone_number_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenSubLookup_whenExistsBySub_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("passenger", () -> passengerRepository.existsBySub(UUID.randomUUID())))
+                .contains("uk_passenger_sub")
+                .doesNotContain("Seq Scan");
+    }
+
+    private String explain(String table, Runnable repositoryCall) throws InterruptedException {
+        int offset = postgreSQLContainer.getLogs(OutputFrame.OutputType.STDERR).length();
+        repositoryCall.run();
+
+        for (int attempt = 0; attempt < 50; attempt++) {
+            String plans = Arrays.stream(postgreSQLContainer.getLogs(OutputFrame.OutputType.STDERR)
+                            .substring(offset)
+                            .split("LOG:  duration: "))
+                    .filter(plan -> plan.contains("Query Text:") && plan.contains(" from " + table + " "))
+                    .collect(Collectors.joining("\n"));
+            if (!plans.isEmpty()) {
+                return plans;
+            }
+            Thread.sleep(100);
+        }
+        return "";
+    }
+}
@@ -9,28 +9,38 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modsen.servicepassenger.dto.request.PassengerRequestDto;
 import org.modsen.servicepassenger.dto.response.PassengerResponseDto;
+import org.modsen.servicepassenger.exception.BatchSizeExceededException;
+import org.modsen.servicepassenger.exception.DuplicateResourceException;
 import org.modsen.servicepassenger.mapper.PassengerMapper;
 import org.modsen.servicepassenger.model.Passenger;
 import org.modsen.servicepassenger.repository.PassengerRepository;
 import org.modsen.servicepassenger.service.impl.PassengerServiceImpl;
 import org.modsen.servicepassenger.util.PassengerTestUtil;
+import org.modsen.servicepassenger.util.PassengerEventPublisher;
+import org.modsen.servicepassenger.util.PassengerProfileCache;
 import org.modsen.servicepassenger.util.PassengerUtil;
 import org.modsen.servicepassenger.util.SecurityTestUtil;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Function;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -46,6 +56,10 @@ public class PassengerServiceUnitTest {
     private PassengerMapper passengerMapper;
     @Mock
     private PassengerUtil passengerUtil;
+    @Mock
+    private PassengerProfileCache passengerProfileCache;
+    @Mock
+    private PassengerEventPublisher passengerEventPublisher;
 
     @InjectMocks
     private PassengerServiceImpl passengerService;
@@ -56,6 +70,9 @@ public class PassengerServiceUnitTest {
     @BeforeEach
     void setUp() {
         passenger = PassengerTestUtil.passenger;
+        lenient().when(passengerProfileCache.get(any(), any()))
+                .thenAnswer(invocation -> invocation.<Function<Long, PassengerProfileCache.CachedPassenger>>getArgument(1)
+                        .apply(invocation.getArgument(0)));
         passengerResponseDto = PassengerTestUtil.responseDto;
     }
 
@@ -120,14 +137,14 @@ public class PassengerServiceUnitTest {
 
         // When
         when(passengerMapper.toPassenger(passengerRequestDto)).thenReturn(passenger);
-        when(passengerRepository.save(passenger)).thenReturn(passenger);
+        when(passengerRepository.saveAndFlush(passenger)).thenReturn(passenger);
         when(passengerMapper.toPassengerResponseDto(passenger)).thenReturn(passengerResponseDto);
         PassengerResponseDto result = passengerService.save(passengerRequestDto, passenger.getSub().toString());
 
         // Then
         assertNotNull(result);
         assertEquals(passengerResponseDto, result);
-        verify(passengerRepository, times(1)).save(passenger);
+        verify(passengerRepository, times(1)).saveAndFlush(passenger);
     }
 
     @Test
@@ -138,14 +155,14 @@ public class PassengerServiceUnitTest {
 
         // When
         when(passengerRepository.findById(1L)).thenReturn(Optional.of(passenger));
-        when(passengerRepository.save(passenger)).thenReturn(passenger);
+        when(passengerRepository.saveAndFlush(passenger)).thenReturn(passenger);
         when(passengerMapper.toPassengerResponseDto(passenger)).thenReturn(passengerResponseDto);
         PassengerResponseDto result = passengerService.update(1L, passengerRequestDto, passenger.getSub().toString());
 
         // Then
         assertNotNull(result);
         assertEquals(passengerResponseDto, result);
-        verify(passengerRepository, times(1)).save(passenger);
+        verify(passengerRepository, times(1)).saveAndFlush(passenger);
     }
 
     @Test
@@ -159,6 +176,48 @@ public class PassengerServiceUnitTest {
 
         // Then
         verify(passengerRepository, times(1)).save(passenger);
+        verify(passengerEventPublisher, times(1)).publish(passenger);
         assertTrue(passenger.getIsDeleted());
     }
+
+    @Test
+    void givenDuplicateEmail_whenSave_thenThrowDuplicateResourceException() {
+        // Given
+        PassengerRequestDto passengerRequestDto = PassengerTestUtil.passengerRequestDto;
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("uk_passenger_email");
+
+        // When
+        when(passengerMapper.toPassenger(passengerRequestDto)).thenReturn(passenger);
+        when(passengerRepository.saveAndFlush(passenger)).thenThrow(violation);
+        when(passengerUtil.translateDuplicate(violation, passengerRequestDto))
+                .thenReturn(new DuplicateResourceException("Passenger with kirill@gmail.com already exists"));
+
+        // Then
+        assertThrows(DuplicateResourceException.class,
+                () -> passengerService.save(passengerRequestDto, passenger.getSub().toString()));
+    }
+
+    @Test
+    void givenAdmin_whenFindAllByIds_thenReturnAllFoundPassengers() {
+        // Given
+        ReflectionTestUtils.setField(passengerService, "batchMaxSize", 100);
+        SecurityTestUtil.setUpSecurityContextWithRole("ROLE_ADMIN");
+        when(passengerRepository.findAllByIdInAndIsDeletedFalse(List.of(1L, 2L))).thenReturn(List.of(passenger));
+        when(passengerMapper.toPassengerResponseDto(passenger)).thenReturn(passengerResponseDto);
+
+        // When
+        List<PassengerResponseDto> result = passengerService.findAllByIds(List.of(1L, 2L), "admin");
+
+        // Then
+        assertEquals(List.of(passengerResponseDto), result);
+    }
+
+    @Test
+    void givenTooManyIds_whenFindAllByIds_thenThrowBadRequest() {
+        // Given
+        ReflectionTestUtils.setField(passengerService, "batchMaxSize", 1);
+
+        // When & Then
+        assertThrows(BatchSizeExceededException.class, () -> passengerService.findAllByIds(List.of(1L, 2L), "admin"));
+    }
 }
@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.Map;
 
 @Tag(name = "Rating controller", description = "CRUD operations for rating")
@@ -36,9 +37,16 @@ public interface RatingApi {
             @Parameter(description = "Filter ratings by user ID")
             @RequestParam(name = "userId", required = false) Long userId,
             @Parameter(description = "Filter ratings by driver rating")
-            @RequestParam(name = "driverRating", required = false) Integer driverRating
+            @RequestParam(name = "driverRating", required = false) Integer driverRating,
+            @Parameter(description = "Cursor taken from pageInfo.nextCursor, an empty value starts keyset scrolling")
+            @RequestParam(name = "after", required = false) String after
     );
 
+    @Operation(summary = "Export ratings", description = "Streams all ratings as NDJSON, one rating per line.")
+    @ApiResponse(responseCode = "200", description = "Ratings exported",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = RatingResponse.class)))
+    ResponseEntity<StreamingResponseBody> exportRatings();
+
     @Operation(summary = "Get rating by ID", description = "Get a rating based on the provided ID.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved the rating",
             content = @Content(schema = @Schema(implementation = RatingResponse.class)))
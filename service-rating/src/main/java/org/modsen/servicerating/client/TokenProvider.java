@@ -18,4 +18,20 @@ public class TokenProvider {
         }
         return null;
     }
+
+    public String getSubject() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken jwtAuth) {
+            return jwtAuth.getToken().getSubject();
+        }
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    public Jwt getJwt() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken jwtAuth) {
+            return jwtAuth.getToken();
+        }
+        return null;
+    }
 }
\ No newline at end of file
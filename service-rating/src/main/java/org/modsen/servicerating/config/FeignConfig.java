@@ -1,10 +1,14 @@
 package org.modsen.servicerating.config;
 
+import feign.Capability;
 import feign.RequestInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.modsen.servicerating.client.TokenProvider;
+import org.modsen.servicerating.util.DeadlineCapability;
+import org.modsen.servicerating.util.RequestDeadline;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import java.util.OptionalLong;
 
 @Configuration
 @RequiredArgsConstructor
@@ -12,6 +16,11 @@ public class FeignConfig {
 
     private final TokenProvider tokenProvider;
 
+    @Bean
+    public Capability deadlineCapability() {
+        return new DeadlineCapability();
+    }
+
     @Bean
     public RequestInterceptor requestInterceptor() {
         return template -> {
@@ -19,6 +28,10 @@ public class FeignConfig {
             if (token != null) {
                 template.header("Authorization", "Bearer " + token);
             }
+            OptionalLong remaining = RequestDeadline.remainingMillis();
+            if (remaining.isPresent()) {
+                template.header(RequestDeadline.HEADER, String.valueOf(Math.max(0, remaining.getAsLong())));
+            }
         };
     }
 }
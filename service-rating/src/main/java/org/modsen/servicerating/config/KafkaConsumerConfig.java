@@ -31,6 +31,15 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${kafka.topic.rating.partitions:6}")
+    private int ratingTopicPartitions;
+
+    @Value("${kafka.consumer.concurrency:3}")
+    private int concurrency;
+
+    @Value("${kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -39,6 +48,7 @@ public class KafkaConsumerConfig {
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, RatingMessageDeserialization.class);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
@@ -53,6 +63,8 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
 
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
         factory.setCommonErrorHandler(defaultErrorHandler);
         return factory;
     }
@@ -75,7 +87,7 @@ public class KafkaConsumerConfig {
     @Bean
     public NewTopic ratingDLT() {
         return TopicBuilder.name("rating-dlt")
-                .partitions(1)
+                .partitions(ratingTopicPartitions)
                 .replicas(1)
                 .build();
     }
@@ -0,0 +1,20 @@
+package org.modsen.servicerating.config;
+
+import org.modsen.servicerating.util.RequestDeadline;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+public class ValidationExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService validationExecutor() {
+        ThreadFactory virtualThreads = Thread.ofVirtual().factory();
+        return new DelegatingSecurityContextExecutorService(
+                Executors.newThreadPerTaskExecutor(task -> virtualThreads.newThread(RequestDeadline.wrap(task))));
+    }
+}
@@ -9,6 +9,7 @@ import org.modsen.servicerating.dto.response.RatingResponse;
 import org.modsen.servicerating.service.RatingService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.Map;
 
 @RestController
@@ -36,8 +38,13 @@ public class RatingController implements RatingApi {
             @RequestParam(name = "sort", defaultValue = "id,asc") String sort,
             @RequestParam(name = "driverId", required = false) Long driverId,
             @RequestParam(name = "userId", required = false) Long userId,
-            @RequestParam(name = "driverRating", required = false) Integer driverRating
+            @RequestParam(name = "driverRating", required = false) Integer driverRating,
+            @RequestParam(name = "after", required = false) String after
     ) {
+        if (after != null) {
+            return ResponseEntity.ok(ratingService.findAll(after, size, driverId, userId, driverRating));
+        }
+
         String[] split = sort.split(",");
         Sort asc = Sort.by(split[0]).ascending();
 
@@ -51,6 +58,14 @@ public class RatingController implements RatingApi {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportRatings() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ratingService::exportRatings);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<RatingResponse> findById(@PathVariable("id") Long id) {
@@ -0,0 +1,37 @@
+package org.modsen.servicerating.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Table(name = "rating_aggregate")
+@IdClass(RatingAggregateId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingAggregate {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject_type")
+    private RatingSubject subjectType;
+
+    @Id
+    @Column(name = "subject_id")
+    private Long subjectId;
+
+    @Column(name = "rating_sum")
+    private Long ratingSum;
+
+    @Column(name = "rating_count")
+    private Long ratingCount;
+}
@@ -0,0 +1,14 @@
+package org.modsen.servicerating.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingAggregateId implements Serializable {
+    private RatingSubject subjectType;
+    private Long subjectId;
+}
@@ -0,0 +1,6 @@
+package org.modsen.servicerating.model;
+
+public enum RatingSubject {
+    DRIVER,
+    PASSENGER
+}
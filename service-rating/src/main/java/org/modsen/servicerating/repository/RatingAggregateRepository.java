@@ -0,0 +1,50 @@
+package org.modsen.servicerating.repository;
+
+import org.modsen.servicerating.model.RatingAggregate;
+import org.modsen.servicerating.model.RatingAggregateId;
+import org.modsen.servicerating.model.RatingSubject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface RatingAggregateRepository extends JpaRepository<RatingAggregate, RatingAggregateId> {
+
+    @Query("SELECT CAST(a.ratingSum AS double) / a.ratingCount FROM RatingAggregate a " +
+            "WHERE a.subjectType = :subjectType AND a.subjectId = :subjectId AND a.ratingCount > 0")
+    Optional<Double> findAverage(@Param("subjectType") RatingSubject subjectType,
+                                 @Param("subjectId") Long subjectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO rating_aggregate (subject_type, subject_id, rating_sum, rating_count) " +
+            "VALUES (:subjectType, :subjectId, :sumDelta, :countDelta) " +
+            "ON CONFLICT (subject_type, subject_id) DO UPDATE " +
+            "SET rating_sum = rating_aggregate.rating_sum + EXCLUDED.rating_sum, " +
+            "rating_count = rating_aggregate.rating_count + EXCLUDED.rating_count",
+            nativeQuery = true)
+    void increment(@Param("subjectType") String subjectType,
+                   @Param("subjectId") Long subjectId,
+                   @Param("sumDelta") long sumDelta,
+                   @Param("countDelta") long countDelta);
+
+    @Modifying
+    @Query(value = "LOCK TABLE rating IN SHARE MODE", nativeQuery = true)
+    void lockRatings();
+
+    @Modifying
+    @Query(value = "DELETE FROM rating_aggregate", nativeQuery = true)
+    void deleteAllAggregates();
+
+    @Modifying
+    @Query(value = "INSERT INTO rating_aggregate (subject_type, subject_id, rating_sum, rating_count) " +
+            "SELECT 'DRIVER', driver_id, SUM(driver_rating), COUNT(driver_rating) FROM rating " +
+            "WHERE driver_rating IS NOT NULL GROUP BY driver_id " +
+            "UNION ALL " +
+            "SELECT 'PASSENGER', user_id, SUM(passenger_rating), COUNT(passenger_rating) FROM rating " +
+            "WHERE passenger_rating IS NOT NULL GROUP BY user_id",
+            nativeQuery = true)
+    int insertAggregatesFromRatings();
+}
@@ -0,0 +1,8 @@
+package org.modsen.servicerating.repository;
+
+import org.modsen.servicerating.model.Rating;
+import java.util.List;
+
+public interface RatingBatchRepository {
+    int insertIgnoringDuplicates(List<Rating> ratings);
+}
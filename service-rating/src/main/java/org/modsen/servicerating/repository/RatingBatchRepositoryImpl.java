@@ -0,0 +1,35 @@
+package org.modsen.servicerating.repository;
+
+import org.modsen.servicerating.model.Rating;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.Arrays;
+import java.util.List;
+
+public class RatingBatchRepositoryImpl implements RatingBatchRepository {
+
+    private static final String INSERT_IGNORING_DUPLICATES =
+            "INSERT INTO rating (driver_id, user_id, ride_id) VALUES (?, ?, ?) ON CONFLICT (ride_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public RatingBatchRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                     @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int insertIgnoringDuplicates(List<Rating> ratings) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IGNORING_DUPLICATES, ratings, batchSize, (ps, rating) -> {
+            ps.setLong(1, rating.getDriverId());
+            ps.setLong(2, rating.getUserId());
+            ps.setLong(3, rating.getRideId());
+        });
+        return (int) Arrays.stream(counts)
+                .flatMapToInt(Arrays::stream)
+                .filter(count -> count > 0)
+                .count();
+    }
+}
@@ -1,22 +1,26 @@
 package org.modsen.servicerating.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.modsen.servicerating.model.Rating;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface RatingRepository extends JpaRepository<Rating, Long> {
+public interface RatingRepository extends JpaRepository<Rating, Long>, RatingBatchRepository {
 
-    @Query("SELECT AVG(r.driverRating) FROM Rating r WHERE r.driverId = :driverId")
-    Optional<Double> findAverageRatingByDriverId(@Param("driverId") Long driverId);
-
-    @Query("SELECT AVG(r.passengerRating) FROM Rating r WHERE r.userId = :userId")
-    Optional<Double> findAverageRatingByUserId(@Param("userId") Long userId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Rating r WHERE r.id = :id")
+    Optional<Rating> findByIdForUpdate(@Param("id") Long id);
 
     @Query("SELECT r FROM Rating r " +
             "WHERE (:driverId IS NULL OR r.driverId = :driverId) " +
@@ -28,4 +32,11 @@ public interface RatingRepository extends JpaRepository<Rating, Long> {
                               Pageable pageable);
 
     Optional<Rating>findByDriverIdAndUserIdAndRideId(Long driverId, Long userId, Long ride);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Rating r ORDER BY r.id")
+    Stream<Rating> streamAllOrderById();
 }
\ No newline at end of file
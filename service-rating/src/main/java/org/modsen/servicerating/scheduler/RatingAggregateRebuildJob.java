@@ -0,0 +1,18 @@
+package org.modsen.servicerating.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.modsen.servicerating.service.RatingAggregateService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RatingAggregateRebuildJob {
+
+    private final RatingAggregateService ratingAggregateService;
+
+    @Scheduled(cron = "${rating.aggregate.rebuild.cron:-}")
+    public void rebuild() {
+        ratingAggregateService.rebuild();
+    }
+}
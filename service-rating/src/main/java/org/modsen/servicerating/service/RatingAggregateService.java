@@ -0,0 +1,15 @@
+package org.modsen.servicerating.service;
+
+import java.util.Optional;
+
+public interface RatingAggregateService {
+    void updateDriverRating(Long driverId, Integer oldRating, Integer newRating);
+
+    void updatePassengerRating(Long passengerId, Integer oldRating, Integer newRating);
+
+    Optional<Double> findDriverAverage(Long driverId);
+
+    Optional<Double> findPassengerAverage(Long passengerId);
+
+    int rebuild();
+}
@@ -6,6 +6,7 @@ import org.modsen.servicerating.dto.response.RatingResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.util.Map;
 
 public interface RatingService {
@@ -13,6 +14,8 @@ public interface RatingService {
 
     Map<String, Object> findAll(Pageable pageable, Long driverId, Long userId, Integer driverRating);
 
+    Map<String, Object> findAll(String after, Integer size, Long driverId, Long userId, Integer driverRating);
+
     RatingResponse update(Long id, RatingRequest ratingRequest);
 
     void delete(Long id);
@@ -20,4 +23,6 @@ public interface RatingService {
     AverageRating getAverageRatingForDriver(Long id);
 
     AverageRating getAverageRatingForUser(Long id);
+
+    void exportRatings(OutputStream outputStream);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package org.modsen.servicerating.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modsen.servicerating.model.RatingSubject;
+import org.modsen.servicerating.repository.RatingAggregateRepository;
+import org.modsen.servicerating.service.RatingAggregateService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RatingAggregateServiceImpl implements RatingAggregateService {
+
+    private final RatingAggregateRepository ratingAggregateRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updateDriverRating(Long driverId, Integer oldRating, Integer newRating) {
+        applyChange(RatingSubject.DRIVER, driverId, oldRating, newRating);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updatePassengerRating(Long passengerId, Integer oldRating, Integer newRating) {
+        applyChange(RatingSubject.PASSENGER, passengerId, oldRating, newRating);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Double> findDriverAverage(Long driverId) {
+        return ratingAggregateRepository.findAverage(RatingSubject.DRIVER, driverId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Double> findPassengerAverage(Long passengerId) {
+        return ratingAggregateRepository.findAverage(RatingSubject.PASSENGER, passengerId);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        log.info("Rebuilding rating aggregates");
+        ratingAggregateRepository.lockRatings();
+        ratingAggregateRepository.deleteAllAggregates();
+        int rebuilt = ratingAggregateRepository.insertAggregatesFromRatings();
+        log.info("Rebuilt {} rating aggregates", rebuilt);
+        return rebuilt;
+    }
+
+    private void applyChange(RatingSubject subject, Long subjectId, Integer oldRating, Integer newRating) {
+        long sumDelta = valueOf(newRating) - valueOf(oldRating);
+        long countDelta = countOf(newRating) - countOf(oldRating);
+
+        if (sumDelta != 0 || countDelta != 0) {
+            ratingAggregateRepository.increment(subject.name(), subjectId, sumDelta, countDelta);
+        }
+    }
+
+    private long valueOf(Integer rating) {
+        return rating == null ? 0 : rating;
+    }
+
+    private long countOf(Integer rating) {
+        return rating == null ? 0 : 1;
+    }
+}
@@ -1,6 +1,9 @@
 package org.modsen.servicerating.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.modsen.servicerating.dto.message.RatingMessage;
 import org.modsen.servicerating.dto.request.RatingRequest;
 import org.modsen.servicerating.dto.response.AverageRating;
@@ -12,20 +15,34 @@ import org.modsen.servicerating.dto.response.RatingResponse;
 import org.modsen.servicerating.mapper.RatingMapper;
 import org.modsen.servicerating.model.Rating;
 import org.modsen.servicerating.repository.RatingRepository;
+import org.modsen.servicerating.service.RatingAggregateService;
 import org.modsen.servicerating.service.RatingService;
+import org.modsen.servicerating.util.CursorUtil;
 import org.modsen.servicerating.util.DoRequestUtil;
+import org.modsen.servicerating.util.OwnershipUtil;
+import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -35,17 +52,59 @@ public class RatingServiceImpl implements RatingService {
 
     private final RatingMapper ratingMapper;
     private final DoRequestUtil doRequestUtil;
+    private final OwnershipUtil ownershipUtil;
     private final RatingRepository ratingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RatingAggregateService ratingAggregateService;
+    private final CursorUtil cursorUtil;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     @KafkaListener(topics = "rating-topic")
-    public void consumeRating(RatingMessage ratingMessage) {
-        log.info("Received rating message: {}", ratingMessage);
-        Rating saved = Rating.builder()
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void consumeRatings(List<ConsumerRecord<String, RatingMessage>> records) {
+        log.info("Received {} rating messages", records.size());
+        List<RatingMessage> messages = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, RatingMessage> consumerRecord : records) {
+            if (consumerRecord.value() == null) {
+                break;
+            }
+            messages.add(consumerRecord.value());
+        }
+
+        saveRatings(messages);
+
+        if (messages.size() < records.size()) {
+            throw new BatchListenerFailedException("Rating message could not be deserialized", messages.size());
+        }
+    }
+
+    private void saveRatings(List<RatingMessage> messages) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int inserted = ratingRepository.insertIgnoringDuplicates(messages.stream().map(this::toRating).toList());
+                log.info("Saved {} ratings, skipped {} already rated rides", inserted, messages.size() - inserted);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Batch insert of {} ratings failed, saving one by one", messages.size(), e);
+            for (int i = 0; i < messages.size(); i++) {
+                RatingMessage message = messages.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            ratingRepository.insertIgnoringDuplicates(List.of(toRating(message))));
+                } catch (RuntimeException ex) {
+                    throw new BatchListenerFailedException("Failed to save rating for ride " + message.getRideId(), ex, i);
+                }
+            }
+        }
+    }
+
+    private Rating toRating(RatingMessage ratingMessage) {
+        return Rating.builder()
                 .driverId(ratingMessage.getDriverId())
                 .userId(ratingMessage.getPassengerId())
                 .rideId(ratingMessage.getRideId())
                 .build();
-        ratingRepository.save(saved);
     }
 
     @Override
@@ -56,7 +115,7 @@ public class RatingServiceImpl implements RatingService {
                 new NoSuchElementException("Rating with id = " + id + " not found"));
 
         if (!checkIsAdmin()){
-            doRequestUtil.validateAccessForDriverAndPassenger(rating.getDriverId(), rating.getUserId());
+            ownershipUtil.validateAccess(rating.getDriverId(), rating.getUserId());
         }
 
         return ratingMapper.toRatingResponse(rating);
@@ -84,36 +143,79 @@ public class RatingServiceImpl implements RatingService {
         return response;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> findAll(String after, Integer size, Long driverId, Long userId, Integer driverRating) {
+        log.info("Scrolling ratings after cursor: {} with filters - driverId: {}, userId: {}, driverRating: {}",
+                after, driverId, userId, driverRating);
+        Example<Rating> example = Example.of(Rating.builder()
+                .driverId(driverId)
+                .userId(userId)
+                .driverRating(driverRating)
+                .build());
+
+        Window<RatingResponse> ratingWindow = ratingRepository.findBy(example, query -> query
+                        .sortBy(cursorUtil.sort())
+                        .limit(size)
+                        .scroll(cursorUtil.decode(after)))
+                .map(ratingMapper::toRatingResponse);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("ratings", ratingWindow.getContent());
+        response.put("pageInfo", cursorUtil.createPageInfo(ratingWindow, size));
+
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportRatings(OutputStream outputStream) {
+        log.info("Exporting all ratings");
+        try (Stream<Rating> ratings = ratingRepository.streamAllOrderById()) {
+            ratings.forEach(rating -> {
+                writeLine(outputStream, ratingMapper.toRatingResponse(rating));
+                entityManager.detach(rating);
+            });
+        }
+    }
+
     @Override
     public RatingResponse update(Long id, RatingRequest ratingRequest) {
         log.info("Updating rating with id: {}", id);
-        Rating rating = ratingRepository.findById(id).orElseThrow(() ->
+        Rating rating = ratingRepository.findByIdForUpdate(id).orElseThrow(() ->
                 new NoSuchElementException("Rating with id = " + id + " not found"));
 
         if (checkIsAdmin()) {
-            doRequestUtil.getDriverResponse(rating.getDriverId());
-            doRequestUtil.getPassengerResponse(rating.getUserId());
+            doRequestUtil.validateDriverAndPassengerExist(rating.getDriverId(), rating.getUserId());
         } else {
-            doRequestUtil.validateAccessForDriverAndPassenger(rating.getDriverId(), rating.getUserId());
+            ownershipUtil.validateAccess(rating.getDriverId(), rating.getUserId());
         }
 
+        Integer oldDriverRating = rating.getDriverRating();
+        Integer oldPassengerRating = rating.getPassengerRating();
         ratingMapper.updateRating(ratingRequest, rating);
         Rating save = ratingRepository.save(rating);
+
+        ratingAggregateService.updateDriverRating(save.getDriverId(), oldDriverRating, save.getDriverRating());
+        ratingAggregateService.updatePassengerRating(save.getUserId(), oldPassengerRating, save.getPassengerRating());
         return ratingMapper.toRatingResponse(save);
     }
 
     @Override
     public void delete(Long id) {
         log.info("Deleting rating with id: {}", id);
-        Rating rating = ratingRepository.findById(id).orElseThrow(() ->
+        Rating rating = ratingRepository.findByIdForUpdate(id).orElseThrow(() ->
                 new NoSuchElementException("Rating with id = " + id + " not found"));
 
         ratingRepository.deleteById(id);
+
+        ratingAggregateService.updateDriverRating(rating.getDriverId(), rating.getDriverRating(), null);
+        ratingAggregateService.updatePassengerRating(rating.getUserId(), rating.getPassengerRating(), null);
     }
 
     @Override
     public AverageRating getAverageRatingForDriver(Long id) {
-        Double rating = ratingRepository.findAverageRatingByDriverId(id)
+        Double rating = ratingAggregateService.findDriverAverage(id)
                 .orElseThrow(() -> new NoSuchElementException("Driver with id =  " + id + " not found"));
 
         log.info("Getting average rating for driver with id: {}", id);
@@ -125,7 +227,7 @@ public class RatingServiceImpl implements RatingService {
 
     @Override
     public AverageRating getAverageRatingForUser(Long id) {
-        Double rating = ratingRepository.findAverageRatingByUserId(id)
+        Double rating = ratingAggregateService.findPassengerAverage(id)
                 .orElseThrow(() -> new NoSuchElementException("Passenger with id =  " + id + " not found"));
 
         doRequestUtil.getPassengerResponse(id);
@@ -133,6 +235,15 @@ public class RatingServiceImpl implements RatingService {
         return new AverageRating(rating, LocalDateTime.now());
     }
 
+    private void writeLine(OutputStream outputStream, RatingResponse ratingResponse) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(ratingResponse));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private boolean checkIsAdmin() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         return authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
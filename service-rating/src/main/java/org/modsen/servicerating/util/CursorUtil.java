@@ -0,0 +1,56 @@
+package org.modsen.servicerating.util;
+
+import org.modsen.servicerating.dto.response.CursorPageResponse;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+@Component
+public class CursorUtil {
+
+    private static final String ID = "id";
+
+    public Sort sort() {
+        return Sort.by(Sort.Direction.ASC, ID);
+    }
+
+    public ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String id = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return ScrollPosition.forward(Map.of(ID, Long.parseLong(id)));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor);
+        }
+    }
+
+    public CursorPageResponse createPageInfo(Window<?> window, int size) {
+        String nextCursor = null;
+
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            nextCursor = encode(position.getKeys().get(ID));
+        }
+
+        return CursorPageResponse.builder()
+                .nextCursor(nextCursor)
+                .hasNext(window.hasNext())
+                .pageSize(size)
+                .build();
+    }
+
+    private String encode(Object id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
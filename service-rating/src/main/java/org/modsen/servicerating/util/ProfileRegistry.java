@@ -0,0 +1,136 @@
+package org.modsen.servicerating.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.modsen.servicerating.dto.message.ProfileEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class ProfileRegistry implements ConsumerAwareRebalanceListener {
+
+    private final Map<Long, Entry> drivers = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> passengers = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> driverIdsBySub = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> passengerIdsBySub = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> pendingOffsets = new ConcurrentHashMap<>();
+    private final Set<String> assignedTopics = ConcurrentHashMap.newKeySet();
+
+    @Value("${registry.profiles.driver-topic:driver-events}")
+    private String driverTopic;
+
+    @Value("${registry.profiles.passenger-topic:passenger-events}")
+    private String passengerTopic;
+
+    public Optional<Entry> findDriver(Long id) {
+        return find(driverTopic, drivers, id);
+    }
+
+    public Optional<Entry> findPassenger(Long id) {
+        return find(passengerTopic, passengers, id);
+    }
+
+    public Optional<Long> findDriverIdBySub(String sub) {
+        return findIdBySub(driverIdsBySub, sub);
+    }
+
+    public Optional<Long> findPassengerIdBySub(String sub) {
+        return findIdBySub(passengerIdsBySub, sub);
+    }
+
+    public boolean isReady(String topic) {
+        return assignedTopics.contains(topic)
+               && pendingOffsets.keySet().stream().noneMatch(partition -> partition.topic().equals(topic));
+    }
+
+    @KafkaListener(topics = {"${registry.profiles.driver-topic:driver-events}",
+            "${registry.profiles.passenger-topic:passenger-events}"},
+            groupId = "${spring.application.name}-registry-${random.uuid}",
+            containerFactory = "profileEventContainerFactory",
+            autoStartup = "${registry.profiles.enabled:true}")
+    public void onEvent(ConsumerRecord<String, ProfileEvent> record) {
+        if (record.value() != null) {
+            apply(record.topic(), record.value());
+        }
+
+        pendingOffsets.computeIfPresent(new TopicPartition(record.topic(), record.partition()),
+                (partition, end) -> record.offset() + 1 >= end ? null : end);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        for (TopicPartition partition : partitions) {
+            long end = endOffsets.getOrDefault(partition, 0L);
+            if (consumer.position(partition) < end) {
+                pendingOffsets.put(partition, end);
+            } else {
+                pendingOffsets.remove(partition);
+            }
+            assignedTopics.add(partition.topic());
+        }
+        log.info("Profile registry assigned {}, catching up on {}", partitions, pendingOffsets.keySet());
+    }
+
+    /**
+     * Events are keyed by profile id, so all events for one id arrive in partition order and the
+     * latest one wins. Producer timestamps are not compared: they come from different replicas' clocks.
+     */
+    public void apply(String topic, ProfileEvent event) {
+        boolean driver = topic.equals(driverTopic);
+        Map<Long, Entry> entries = driver ? drivers : passengers;
+        Map<UUID, Long> idsBySub = driver ? driverIdsBySub : passengerIdsBySub;
+        Entry update = new Entry(event.getSub(), event.isDeleted());
+
+        Entry previous = entries.put(event.getId(), update);
+        if (previous != null && previous.sub() != null && !previous.sub().equals(update.sub())) {
+            idsBySub.remove(previous.sub(), event.getId());
+        }
+        if (update.sub() == null) {
+            return;
+        }
+
+        if (update.deleted()) {
+            idsBySub.remove(update.sub(), event.getId());
+        } else {
+            idsBySub.put(update.sub(), event.getId());
+        }
+    }
+
+    private Optional<Entry> find(String topic, Map<Long, Entry> entries, Long id) {
+        if (id == null || !isReady(topic)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    private Optional<Long> findIdBySub(Map<UUID, Long> idsBySub, String sub) {
+        if (sub == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(idsBySub.get(UUID.fromString(sub)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public record Entry(UUID sub, boolean deleted) {
+
+        public boolean isOwnedBy(String subject) {
+            return sub != null && sub.toString().equals(subject);
+        }
+    }
+}
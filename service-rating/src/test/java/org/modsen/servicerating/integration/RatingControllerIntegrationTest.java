@@ -152,6 +152,24 @@ public class RatingControllerIntegrationTest {
         assertThat(savedRating.getRideId()).isEqualTo(ratingMessage.getRideId());
     }
 
+    @Test
+    void givenRedeliveredRatingMessage_whenConsumeRating_thenSavesRatingOnce() throws Exception {
+        RatingMessage ratingMessage = new RatingMessage();
+        ratingMessage.setDriverId(6L);
+        ratingMessage.setPassengerId(6L);
+        ratingMessage.setRideId(6L);
+
+        kafkaTemplate.send("rating-topic", ratingMessage);
+        kafkaTemplate.send("rating-topic", ratingMessage);
+        Thread.sleep(2000);
+
+        long saved = ratingRepository.findAll().stream()
+                .filter(rating -> rating.getRideId().equals(ratingMessage.getRideId()))
+                .count();
+
+        assertThat(saved).isEqualTo(1);
+    }
+
     @Test
     void givenUpdatedRating_whenUpdateRating_thenReturnsUpdatedRating() throws Exception {
         mockMvc.perform(put("/api/v1/ratings/{id}", 2)
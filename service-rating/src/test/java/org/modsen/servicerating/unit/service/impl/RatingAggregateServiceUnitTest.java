@@ -0,0 +1,76 @@
+package org.modsen.servicerating.unit.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modsen.servicerating.model.RatingSubject;
+import org.modsen.servicerating.repository.RatingAggregateRepository;
+import org.modsen.servicerating.service.impl.RatingAggregateServiceImpl;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RatingAggregateServiceUnitTest {
+
+    @Mock
+    private RatingAggregateRepository ratingAggregateRepository;
+
+    @InjectMocks
+    private RatingAggregateServiceImpl ratingAggregateService;
+
+    @Test
+    void givenFirstRating_whenUpdateDriverRating_thenIncrementSumAndCount() {
+        // When
+        ratingAggregateService.updateDriverRating(1L, null, 5);
+
+        // Then
+        verify(ratingAggregateRepository, times(1)).increment("DRIVER", 1L, 5, 1);
+    }
+
+    @Test
+    void givenChangedRating_whenUpdatePassengerRating_thenIncrementSumOnly() {
+        // When
+        ratingAggregateService.updatePassengerRating(1L, 4, 2);
+
+        // Then
+        verify(ratingAggregateRepository, times(1)).increment("PASSENGER", 1L, -2, 0);
+    }
+
+    @Test
+    void givenRemovedRating_whenUpdateDriverRating_thenDecrementSumAndCount() {
+        // When
+        ratingAggregateService.updateDriverRating(1L, 3, null);
+
+        // Then
+        verify(ratingAggregateRepository, times(1)).increment("DRIVER", 1L, -3, -1);
+    }
+
+    @Test
+    void givenUnchangedRating_whenUpdateDriverRating_thenSkipIncrement() {
+        // When
+        ratingAggregateService.updateDriverRating(1L, 4, 4);
+
+        // Then
+        verify(ratingAggregateRepository, never()).increment(anyString(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void givenAggregate_whenFindDriverAverage_thenReturnAverage() {
+        // Given
+        when(ratingAggregateRepository.findAverage(RatingSubject.DRIVER, 1L)).thenReturn(Optional.of(4.5));
+
+        // When
+        Optional<Double> average = ratingAggregateService.findDriverAverage(1L);
+
+        // Then
+        assertEquals(Optional.of(4.5), average);
+    }
+}
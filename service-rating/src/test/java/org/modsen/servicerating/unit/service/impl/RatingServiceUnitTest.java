@@ -1,10 +1,14 @@
 package org.modsen.servicerating.unit.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modsen.servicerating.dto.message.RatingMessage;
 import org.modsen.servicerating.dto.request.RatingRequest;
@@ -13,21 +17,34 @@ import org.modsen.servicerating.dto.response.RatingResponse;
 import org.modsen.servicerating.mapper.RatingMapper;
 import org.modsen.servicerating.model.Rating;
 import org.modsen.servicerating.repository.RatingRepository;
+import org.modsen.servicerating.service.RatingAggregateService;
 import org.modsen.servicerating.service.impl.RatingServiceImpl;
 import org.modsen.servicerating.util.DoRequestUtil;
+import org.modsen.servicerating.util.OwnershipUtil;
 import org.modsen.servicerating.util.SecurityTestUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -45,6 +62,21 @@ public class RatingServiceUnitTest {
     @Mock
     private DoRequestUtil doRequestUtil;
 
+    @Mock
+    private OwnershipUtil ownershipUtil;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RatingAggregateService ratingAggregateService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private RatingServiceImpl ratingService;
 
@@ -123,25 +155,48 @@ public class RatingServiceUnitTest {
     }
 
     @Test
-    void givenRatingMessage_whenSaveRatingMessage_thenSaveRating() {
+    void givenRatingMessages_whenConsumeRatings_thenSaveAllInOneBatch() {
         // Given
-        RatingMessage ratingMessage = new RatingMessage(2L, 3L, 4L);
-        Rating savedRating = Rating.builder().driverId(2L).userId(3L).rideId(4L).build();
+        executeTransactionCallbacks();
+        List<ConsumerRecord<String, RatingMessage>> records = List.of(
+                new ConsumerRecord<>("rating-topic", 0, 0L, "2", new RatingMessage(4L, 3L, 2L)),
+                new ConsumerRecord<>("rating-topic", 0, 1L, "2", new RatingMessage(6L, 5L, 2L))
+        );
 
-        when(ratingRepository.save(any(Rating.class))).thenReturn(savedRating);
+        // When
+        ratingService.consumeRatings(records);
+
+        // Then
+        verify(ratingRepository, times(1)).insertIgnoringDuplicates(argThat(ratings -> ratings.size() == 2));
+    }
+
+    @Test
+    void givenFailingBatch_whenConsumeRatings_thenSaveOneByOneAndReportFailedRecord() {
+        // Given
+        executeTransactionCallbacks();
+        List<ConsumerRecord<String, RatingMessage>> records = List.of(
+                new ConsumerRecord<>("rating-topic", 0, 0L, "2", new RatingMessage(4L, 3L, 2L)),
+                new ConsumerRecord<>("rating-topic", 0, 1L, "2", new RatingMessage(6L, 5L, 2L))
+        );
+        when(ratingRepository.insertIgnoringDuplicates(anyList()))
+                .thenThrow(new DataIntegrityViolationException("batch"))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("record"));
 
         // When
-        ratingService.consumeRating(ratingMessage);
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> ratingService.consumeRatings(records));
 
         // Then
-        verify(ratingRepository, times(1)).save(any(Rating.class));
+        assertEquals(1, exception.getIndex());
+        verify(ratingRepository, times(3)).insertIgnoringDuplicates(anyList());
     }
 
     @Test
     void givenValidRequest_whenUpdate_thenReturnUpdatedRating() {
         // Given
         SecurityTestUtils.setUpSecurityContextWithRole("ROLE_USER");
-        when(ratingRepository.findById(1L)).thenReturn(Optional.of(rating));
+        when(ratingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(rating));
         when(ratingRepository.save(rating)).thenReturn(rating);
         when(ratingMapper.toRatingResponse(rating)).thenReturn(ratingResponse);
 
@@ -152,24 +207,30 @@ public class RatingServiceUnitTest {
         assertNotNull(result);
         assertEquals(ratingResponse, result);
         verify(ratingRepository, times(1)).save(rating);
+        verify(ratingAggregateService, times(1)).updateDriverRating(2L, null, null);
+        verify(ratingAggregateService, times(1)).updatePassengerRating(3L, null, null);
     }
 
     @Test
     void givenExistingId_whenDelete_thenDeleteRating() {
         // Given
-        when(ratingRepository.findById(1L)).thenReturn(Optional.of(rating));
+        rating.setDriverRating(5);
+        rating.setPassengerRating(4);
+        when(ratingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(rating));
 
         // When
         ratingService.delete(1L);
 
         // Then
         verify(ratingRepository, times(1)).deleteById(1L);
+        verify(ratingAggregateService, times(1)).updateDriverRating(2L, 5, null);
+        verify(ratingAggregateService, times(1)).updatePassengerRating(3L, 4, null);
     }
 
     @Test
     void givenExistingDriverId_whenGetAverageRatingForDriver_thenReturnAverageRating() {
         // Given
-        when(ratingRepository.findAverageRatingByDriverId(2L)).thenReturn(Optional.of(4.5));
+        when(ratingAggregateService.findDriverAverage(2L)).thenReturn(Optional.of(4.5));
 
         // When
         AverageRating avg = ratingService.getAverageRatingForDriver(2L);
@@ -177,6 +238,30 @@ public class RatingServiceUnitTest {
         // Then
         assertNotNull(avg.getAverageRating());
         assertEquals(4.5, avg.getAverageRating());
-        verify(ratingRepository, times(1)).findAverageRatingByDriverId(2L);
+        verify(ratingAggregateService, times(1)).findDriverAverage(2L);
+    }
+
+    @Test
+    void givenRatings_whenExportRatings_thenWriteOneJsonLinePerRating() {
+        // Given
+        when(ratingRepository.streamAllOrderById()).thenReturn(Stream.of(rating, rating));
+        when(ratingMapper.toRatingResponse(rating)).thenReturn(ratingResponse);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        ratingService.exportRatings(outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        verify(entityManager, times(2)).detach(rating);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executeTransactionCallbacks() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
     }
 }
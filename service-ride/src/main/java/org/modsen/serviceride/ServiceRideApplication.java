@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients(basePackages = "org.modsen.serviceride.client")
 @EnableDiscoveryClient
+@EnableScheduling
 public class ServiceRideApplication {
     public static void main(String[] args) {
         SpringApplication.run(ServiceRideApplication.class, args);
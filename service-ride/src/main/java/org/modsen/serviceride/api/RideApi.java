@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.Map;
 
 public interface RideApi {
@@ -31,9 +32,17 @@ public interface RideApi {
             @RequestParam(value = "size", defaultValue = "10") Integer size,
             @Parameter(description = "Sort by field, default is 'id,asc'")
             @RequestParam(defaultValue = "id,asc") String sort,
+            @Parameter(description = "Opaque cursor from the previous response; switches to keyset pagination " +
+                                     "ordered by id without total counts, pass an empty value for the first page")
+            @RequestParam(value = "after", required = false) String after,
             @ModelAttribute RideFilterDto rideFilterDto
     );
 
+    @Operation(summary = "Export all rides", description = "Stream every ride ordered by id as newline-delimited JSON.")
+    @ApiResponse(responseCode = "200", description = "Rides streamed successfully",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = RideResponse.class)))
+    ResponseEntity<StreamingResponseBody> exportRides();
+
     @Operation(summary = "Get a ride by ID", description = "Retrieve a ride by its ID.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved the ride",
             content = @Content(schema = @Schema(implementation = RideResponse.class)))
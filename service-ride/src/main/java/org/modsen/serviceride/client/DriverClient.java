@@ -5,9 +5,15 @@ import org.modsen.serviceride.dto.response.DriverResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "service-driver", configuration = FeignClientConfig.class)
 public interface DriverClient {
     @GetMapping("/api/v1/drivers/{id}")
     DriverResponse getDriver(@PathVariable("id") Long id);
+
+    @GetMapping("/api/v1/drivers/batch")
+    List<DriverResponse> getDrivers(@RequestParam("ids") Collection<Long> ids);
 }
@@ -5,9 +5,15 @@ import org.modsen.serviceride.dto.response.PassengerResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "service-passenger", configuration = FeignClientConfig.class)
 public interface PassengerClient {
     @GetMapping("/api/v1/passengers/{id}")
     PassengerResponse getPassenger(@PathVariable("id") Long id);
+
+    @GetMapping("/api/v1/passengers/batch")
+    List<PassengerResponse> getPassengers(@RequestParam("ids") Collection<Long> ids);
 }
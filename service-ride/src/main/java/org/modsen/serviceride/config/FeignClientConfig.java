@@ -1,11 +1,16 @@
 package org.modsen.serviceride.config;
 
+import feign.Capability;
 import feign.RequestInterceptor;
 import feign.Retryer;
 import lombok.RequiredArgsConstructor;
 import org.modsen.serviceride.client.TokenProvider;
+import org.modsen.serviceride.util.DeadlineAwareRetryer;
+import org.modsen.serviceride.util.DeadlineCapability;
+import org.modsen.serviceride.util.RequestDeadline;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import java.util.OptionalLong;
 
 @Configuration
 @RequiredArgsConstructor
@@ -15,7 +20,12 @@ public class FeignClientConfig {
 
     @Bean
     public Retryer feignRetryer() {
-        return new Retryer.Default(1000, 2000, 3);
+        return new DeadlineAwareRetryer(1000, 2000, 3);
+    }
+
+    @Bean
+    public Capability deadlineCapability() {
+        return new DeadlineCapability();
     }
 
     @Bean
@@ -25,6 +35,10 @@ public class FeignClientConfig {
             if (token != null) {
                 template.header("Authorization", "Bearer " + token);
             }
+            OptionalLong remaining = RequestDeadline.remainingMillis();
+            if (remaining.isPresent()) {
+                template.header(RequestDeadline.HEADER, String.valueOf(Math.max(0, remaining.getAsLong())));
+            }
         };
     }
 }
@@ -21,10 +21,13 @@ public class KafkaProducerConfig {
     @Value(value = "${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${kafka.topic.rating.partitions:6}")
+    private int ratingTopicPartitions;
+
     @Bean
     public NewTopic topic() {
         return TopicBuilder.name("rating-topic")
-                .partitions(1)
+                .partitions(ratingTopicPartitions)
                 .replicas(1)
                 .build();
     }
@@ -0,0 +1,30 @@
+package org.modsen.serviceride.config;
+
+import org.modsen.serviceride.util.InstanceHealthTracker;
+import org.modsen.serviceride.util.PeakEwmaLoadBalancer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-client load balancer configuration. Not annotated with {@code @Configuration} on purpose:
+ * it is registered in each load balancer child context through {@link LoadBalancerConfig}.
+ */
+public class PeakEwmaLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            InstanceHealthTracker instanceHealthTracker,
+            @Value("${loadbalancer.ejection.max-percent:50}") int maxEjectionPercent) {
+        String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PeakEwmaLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class),
+                instanceHealthTracker, maxEjectionPercent / 100.0);
+    }
+}
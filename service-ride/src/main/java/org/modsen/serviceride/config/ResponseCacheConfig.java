@@ -0,0 +1,41 @@
+package org.modsen.serviceride.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.modsen.serviceride.dto.response.DriverResponse;
+import org.modsen.serviceride.dto.response.PassengerResponse;
+import org.modsen.serviceride.util.CallerScopedKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+public class ResponseCacheConfig {
+
+    @Value("${cache.responses.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${cache.responses.ttl:30s}")
+    private Duration ttl;
+
+    @Bean
+    public Cache<CallerScopedKey, DriverResponse> driverResponseCache(MeterRegistry meterRegistry) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, buildCache(), "driverResponses");
+    }
+
+    @Bean
+    public Cache<CallerScopedKey, PassengerResponse> passengerResponseCache(MeterRegistry meterRegistry) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, buildCache(), "passengerResponses");
+    }
+
+    private <V> Cache<CallerScopedKey, V> buildCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import org.modsen.serviceride.service.RideService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.Map;
 
 @RestController
@@ -39,8 +41,13 @@ public class RideController implements RideApi {
             @RequestParam(value = "page", defaultValue = "0") Integer page,
             @RequestParam(value = "size", defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "id,asc") String sort,
+            @RequestParam(value = "after", required = false) String after,
             @ModelAttribute RideFilterDto rideFilterDto
     ) {
+        if (after != null) {
+            return ResponseEntity.ok(rideService.findAll(after, size, rideFilterDto));
+        }
+
         String[] split = sort.split(",");
         Sort sortOrder = Sort.by(split[0]).ascending();
 
@@ -54,6 +61,14 @@ public class RideController implements RideApi {
         return ResponseEntity.ok(pageResponse);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportRides() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(rideService::exportRides);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<RideResponse> getRideById(@PathVariable("id") Long id) {
@@ -1,9 +1,21 @@
 package org.modsen.serviceride.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.modsen.serviceride.model.Ride;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.stream.Stream;
 
 @Repository
 public interface RideRepository extends JpaRepository<Ride, Long> {
-}
\ No newline at end of file
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Ride r ORDER BY r.id")
+    Stream<Ride> streamAllOrderById();
+}
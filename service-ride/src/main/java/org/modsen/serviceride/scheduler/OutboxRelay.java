@@ -0,0 +1,62 @@
+package org.modsen.serviceride.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.modsen.serviceride.service.OutboxService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    public OutboxRelay(OutboxService outboxService, MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox events published to Kafka")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.relay.failures")
+                .description("Outbox relay runs that failed to publish a batch")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time spent publishing one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagMillis, AtomicLong::get)
+                .description("Age of the oldest unpublished outbox event")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:500}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = batchTimer.record(() -> outboxService.publishPending(batchSize));
+                publishedCounter.increment(published);
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Outbox relay failed, pending events will be retried", e);
+        } finally {
+            lagMillis.set(outboxService.getLag().toMillis());
+        }
+    }
+}
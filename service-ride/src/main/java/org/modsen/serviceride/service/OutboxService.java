@@ -0,0 +1,12 @@
+package org.modsen.serviceride.service;
+
+import org.modsen.serviceride.dto.message.RatingMessage;
+import java.time.Duration;
+
+public interface OutboxService {
+    void saveRatingMessage(RatingMessage message);
+
+    int publishPending(int batchSize);
+
+    Duration getLag();
+}
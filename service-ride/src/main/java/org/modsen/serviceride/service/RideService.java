@@ -5,6 +5,7 @@ import org.modsen.serviceride.dto.request.RideRequest;
 import org.modsen.serviceride.dto.request.RideUpdateRequest;
 import org.modsen.serviceride.dto.response.RideResponse;
 import org.springframework.data.domain.Pageable;
+import java.io.OutputStream;
 import java.util.Map;
 
 public interface RideService {
@@ -12,6 +13,8 @@ public interface RideService {
 
     Map<String, Object> findAll(Pageable pageable, RideFilterDto filter);
 
+    Map<String, Object> findAll(String after, Integer size, RideFilterDto filter);
+
     RideResponse save(RideRequest rideRequest);
 
     RideResponse update(Long id, RideUpdateRequest rideRequest);
@@ -19,4 +22,6 @@ public interface RideService {
     void delete(Long id);
 
     RideResponse updateRideStatus(Long id, String status);
+
+    void exportRides(OutputStream outputStream);
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package org.modsen.serviceride.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modsen.serviceride.dto.message.RatingMessage;
+import org.modsen.serviceride.model.OutboxEvent;
+import org.modsen.serviceride.repository.OutboxEventRepository;
+import org.modsen.serviceride.service.OutboxService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final String RATING_TOPIC = "rating-topic";
+
+    private final ObjectMapper objectMapper;
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, RatingMessage> kafkaTemplate;
+
+    @Value("${outbox.relay.send-timeout:10000}")
+    private long sendTimeoutMillis;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveRatingMessage(RatingMessage message) {
+        try {
+            OutboxEvent event = OutboxEvent.builder()
+                    .topic(RATING_TOPIC)
+                    .messageKey(String.valueOf(message.getDriverId()))
+                    .payload(objectMapper.writeValueAsString(message))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            outboxEventRepository.save(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize rating message for ride " + message.getRideId(), e);
+        }
+    }
+
+    @Override
+    public int publishPending(int batchSize) {
+        List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(kafkaTemplate.send(event.getTopic(), event.getMessageKey(), readPayload(event)));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox events", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish outbox events", e);
+        }
+
+        outboxEventRepository.deleteAllInBatch(events);
+        log.debug("Published {} outbox events", events.size());
+        return events.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Duration getLag() {
+        return outboxEventRepository.findOldestCreatedAt()
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now()))
+                .orElse(Duration.ZERO);
+    }
+
+    private RatingMessage readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), RatingMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read outbox event with id = " + event.getId(), e);
+        }
+    }
+}
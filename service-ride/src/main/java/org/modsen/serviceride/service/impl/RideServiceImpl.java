@@ -1,5 +1,7 @@
 package org.modsen.serviceride.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modsen.serviceride.dto.filter.RideFilterDto;
@@ -12,22 +14,29 @@ import org.modsen.serviceride.mapper.RideMapper;
 import org.modsen.serviceride.model.Ride;
 import org.modsen.serviceride.model.RideStatus;
 import org.modsen.serviceride.repository.RideRepository;
+import org.modsen.serviceride.service.OutboxService;
 import org.modsen.serviceride.service.RideService;
+import org.modsen.serviceride.util.CursorUtil;
 import org.modsen.serviceride.util.DoRequestUtil;
+import org.modsen.serviceride.util.OwnershipUtil;
 import org.modsen.serviceride.util.RideUtil;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -38,8 +47,12 @@ public class RideServiceImpl implements RideService {
     private final RideUtil rideUtil;
     private final RideMapper rideMapper;
     private final DoRequestUtil doRequestUtil;
+    private final OwnershipUtil ownershipUtil;
     private final RideRepository rideRepository;
-    private final KafkaTemplate<String, RatingMessage> kafkaTemplate;
+    private final OutboxService outboxService;
+    private final CursorUtil cursorUtil;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional(readOnly = true)
@@ -49,7 +62,7 @@ public class RideServiceImpl implements RideService {
                 new NoSuchElementException("Ride with id = " + id + " not found"));
 
         if (!checkIsAdmin()) {
-            doRequestUtil.validateAccessForDriverAndPassenger(ride.getDriverId(), ride.getPassengerId());
+            ownershipUtil.validateAccess(ride.getDriverId(), ride.getPassengerId());
         }
 
         return rideMapper.toRideResponse(ride);
@@ -79,14 +92,44 @@ public class RideServiceImpl implements RideService {
         return response;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> findAll(String after, Integer size, RideFilterDto filterDto) {
+        log.info("Starting to scroll rides after cursor: {} with filters: {}", after, filterDto);
+        Example<Ride> rideExample = rideUtil.createRideExample(filterDto);
+
+        Window<RideResponse> rideWindow = rideRepository.findBy(rideExample, query -> query
+                        .sortBy(cursorUtil.sort())
+                        .limit(size)
+                        .scroll(cursorUtil.decode(after)))
+                .map(rideMapper::toRideResponse);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("rides", rideWindow.getContent());
+        response.put("pageInfo", cursorUtil.createPageInfo(rideWindow, size));
+
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportRides(OutputStream outputStream) {
+        log.info("Starting to export rides");
+        try (Stream<Ride> rides = rideRepository.streamAllOrderById()) {
+            rides.forEach(ride -> {
+                writeLine(outputStream, rideMapper.toRideResponse(ride));
+                entityManager.detach(ride);
+            });
+        }
+    }
+
     @Override
     public RideResponse save(RideRequest rideRequest) {
         log.info("Starting to save new ride with request: {}", rideRequest);
         if (!checkIsAdmin()) {
             doRequestUtil.validateAccessForDriverAndPassenger(rideRequest.getDriverId(), rideRequest.getPassengerId());
         } else {
-            doRequestUtil.getDriverResponse(rideRequest.getDriverId());
-            doRequestUtil.getPassengerResponse(rideRequest.getPassengerId());
+            doRequestUtil.validateDriverAndPassengerExist(rideRequest.getDriverId(), rideRequest.getPassengerId());
         }
 
         Ride ride = rideMapper.toRide(rideRequest);
@@ -100,7 +143,7 @@ public class RideServiceImpl implements RideService {
                 .passengerId(rideRequest.getPassengerId())
                 .build();
 
-        kafkaTemplate.send("rating-topic", message);
+        outboxService.saveRatingMessage(message);
         return rideMapper.toRideResponse(ride);
     }
 
@@ -114,8 +157,7 @@ public class RideServiceImpl implements RideService {
         if (!checkIsAdmin()) {
             doRequestUtil.validateAccessForDriverAndPassenger(rideRequest.getDriverId(), rideRequest.getPassengerId());
         } else {
-            doRequestUtil.getDriverResponse(rideRequest.getDriverId());
-            doRequestUtil.getPassengerResponse(rideRequest.getPassengerId());
+            doRequestUtil.validateDriverAndPassengerExist(rideRequest.getDriverId(), rideRequest.getPassengerId());
         }
 
         ride.setId(id);
@@ -145,7 +187,7 @@ public class RideServiceImpl implements RideService {
                 .orElseThrow(() -> new NoSuchElementException("Ride with id = " + id + " not found"));
 
         if (!checkIsAdmin()) {
-            doRequestUtil.validateAccessForDriverAndPassenger(ride.getDriverId(), ride.getPassengerId());
+            ownershipUtil.validateAccess(ride.getDriverId(), ride.getPassengerId());
         }
 
         ride.setStatus(RideStatus.valueOf(status.toUpperCase()));
@@ -153,6 +195,15 @@ public class RideServiceImpl implements RideService {
         return rideMapper.toRideResponse(ride);
     }
 
+    private void writeLine(OutputStream outputStream, RideResponse rideResponse) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(rideResponse));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private boolean checkIsAdmin() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         return authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
@@ -0,0 +1,4 @@
+package org.modsen.serviceride.util;
+
+public record CallerScopedKey(Long id, String caller) {
+}
@@ -0,0 +1,45 @@
+package org.modsen.serviceride.util;
+
+import feign.RetryableException;
+import feign.Retryer;
+import java.util.OptionalLong;
+
+public class DeadlineAwareRetryer implements Retryer {
+
+    private final long period;
+    private final long maxPeriod;
+    private final int maxAttempts;
+    private int attempt = 1;
+
+    public DeadlineAwareRetryer(long period, long maxPeriod, int maxAttempts) {
+        this.period = period;
+        this.maxPeriod = maxPeriod;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (attempt >= maxAttempts) {
+            throw e;
+        }
+        long interval = Math.min((long) (period * Math.pow(1.5, attempt - 1)), maxPeriod);
+        attempt++;
+
+        OptionalLong remaining = RequestDeadline.remainingMillis();
+        if (remaining.isPresent() && remaining.getAsLong() <= interval) {
+            throw e;
+        }
+
+        try {
+            Thread.sleep(interval);
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @Override
+    public Retryer clone() {
+        return new DeadlineAwareRetryer(period, maxPeriod, maxAttempts);
+    }
+}
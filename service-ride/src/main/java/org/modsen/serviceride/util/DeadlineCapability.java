@@ -0,0 +1,30 @@
+package org.modsen.serviceride.util;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+public class DeadlineCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            OptionalLong remaining = RequestDeadline.remainingMillis();
+            if (remaining.isEmpty()) {
+                return client.execute(request, options);
+            }
+            RequestDeadline.checkNotExpired();
+
+            long budget = remaining.getAsLong();
+            Request.Options bounded = new Request.Options(
+                    Math.min(options.connectTimeoutUnit().toMillis(options.connectTimeout()), budget),
+                    TimeUnit.MILLISECONDS,
+                    Math.min(options.readTimeoutUnit().toMillis(options.readTimeout()), budget),
+                    TimeUnit.MILLISECONDS,
+                    options.isFollowRedirects());
+            return client.execute(request, bounded);
+        };
+    }
+}
@@ -1,14 +1,20 @@
 package org.modsen.serviceride.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import org.modsen.serviceride.client.DriverClient;
 import org.modsen.serviceride.client.PassengerClient;
+import org.modsen.serviceride.client.TokenProvider;
 import org.modsen.serviceride.dto.response.DriverResponse;
 import org.modsen.serviceride.dto.response.PassengerResponse;
 import org.modsen.serviceride.exception.NoAccessException;
 import org.springframework.stereotype.Component;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 @Component
 @RequiredArgsConstructor
@@ -16,44 +22,98 @@ public final class DoRequestUtil {
 
     private final DriverClient driverClient;
     private final PassengerClient passengerClient;
+    private final TokenProvider tokenProvider;
+    private final Cache<CallerScopedKey, DriverResponse> driverResponseCache;
+    private final Cache<CallerScopedKey, PassengerResponse> passengerResponseCache;
+    private final ExecutorService validationExecutor;
+    private final ProfileRegistry profileRegistry;
 
     public DriverResponse getDriverResponse(Long id) {
-        try {
-            DriverResponse driver = driverClient.getDriver(id);
-            return driver;
-        } catch (FeignException.NotFound e) {
-            throw new NoSuchElementException("Driver with id = " + id + " not found");
-        }
+        CallerScopedKey key = new CallerScopedKey(id, tokenProvider.getSubject());
+        return driverResponseCache.get(key, k -> {
+            try {
+                return driverClient.getDriver(id);
+            } catch (FeignException.NotFound e) {
+                throw new NoSuchElementException("Driver with id = " + id + " not found");
+            }
+        });
     }
 
     public PassengerResponse getPassengerResponse(Long id) {
-        try {
-            return passengerClient.getPassenger(id);
-        } catch (FeignException.NotFound exception) {
-            throw new NoSuchElementException("Passenger with id = " + id + " not found");
-        }
+        CallerScopedKey key = new CallerScopedKey(id, tokenProvider.getSubject());
+        return passengerResponseCache.get(key, k -> {
+            try {
+                return passengerClient.getPassenger(id);
+            } catch (FeignException.NotFound exception) {
+                throw new NoSuchElementException("Passenger with id = " + id + " not found");
+            }
+        });
+    }
+
+    public void validateDriverAndPassengerExist(Long driverId, Long passengerId) {
+        Optional<ProfileRegistry.Entry> driverEntry = profileRegistry.findDriver(driverId);
+        Optional<ProfileRegistry.Entry> passengerEntry = profileRegistry.findPassenger(passengerId);
+        driverEntry.ifPresent(entry -> requireActive(entry, "Driver with id = " + driverId + " not found"));
+        passengerEntry.ifPresent(entry -> requireActive(entry, "Passenger with id = " + passengerId + " not found"));
+
+        CompletableFuture<?> driver = driverEntry.isPresent()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> getDriverResponse(driverId), validationExecutor);
+        CompletableFuture<?> passenger = passengerEntry.isPresent()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> getPassengerResponse(passengerId), validationExecutor);
+
+        join(driver);
+        join(passenger);
     }
 
     public void validateAccessForDriverAndPassenger(Long driverId, Long passengerId) {
-        boolean accessGranted = false;
+        Optional<ProfileRegistry.Entry> driverEntry = profileRegistry.findDriver(driverId);
+        Optional<ProfileRegistry.Entry> passengerEntry = profileRegistry.findPassenger(passengerId);
+        driverEntry.ifPresent(entry -> requireActive(entry, "Driver with id = " + driverId + " not found"));
+        passengerEntry.ifPresent(entry -> requireActive(entry, "Passenger with id = " + passengerId + " not found"));
 
-        try {
-            getDriverResponse(driverId);
-            accessGranted = true;
-        } catch (FeignException.Forbidden exception) {
-            System.out.println();
+        String subject = tokenProvider.getSubject();
+        CompletableFuture<Boolean> driverAccess = driverEntry
+                .map(entry -> CompletableFuture.completedFuture(entry.isOwnedBy(subject)))
+                .orElseGet(() -> CompletableFuture.supplyAsync(
+                        () -> hasAccess(() -> getDriverResponse(driverId)), validationExecutor));
+        CompletableFuture<Boolean> passengerAccess = passengerEntry
+                .map(entry -> CompletableFuture.completedFuture(entry.isOwnedBy(subject)))
+                .orElseGet(() -> CompletableFuture.supplyAsync(
+                        () -> hasAccess(() -> getPassengerResponse(passengerId)), validationExecutor));
+
+        boolean accessGranted = join(driverAccess) | join(passengerAccess);
+
+        if (!accessGranted) {
+            throw new NoAccessException("Access denied. " +
+                                        "You can only interact with things associated with your profile.");
+        }
+    }
+
+    private void requireActive(ProfileRegistry.Entry entry, String message) {
+        if (entry.deleted()) {
+            throw new NoSuchElementException(message);
         }
+    }
 
+    private boolean hasAccess(Runnable lookup) {
         try {
-            getPassengerResponse(passengerId);
-            accessGranted = true;
+            lookup.run();
+            return true;
         } catch (FeignException.Forbidden exception) {
-            System.out.println();
+            return false;
         }
+    }
 
-        if (!accessGranted) {
-            throw new NoAccessException("Access denied. " +
-                                        "You can only interact with things associated with your profile.");
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 }
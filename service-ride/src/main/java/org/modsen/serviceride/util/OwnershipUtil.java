@@ -0,0 +1,60 @@
+package org.modsen.serviceride.util;
+
+import lombok.RequiredArgsConstructor;
+import org.modsen.serviceride.client.TokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class OwnershipUtil {
+
+    private final TokenProvider tokenProvider;
+    private final ProfileRegistry profileRegistry;
+    private final DoRequestUtil doRequestUtil;
+
+    @Value("${registry.profiles.driver-id-claim:driver_id}")
+    private String driverIdClaim;
+
+    @Value("${registry.profiles.passenger-id-claim:passenger_id}")
+    private String passengerIdClaim;
+
+    public void validateAccess(Long driverId, Long passengerId) {
+        if (owns(driverId, driverIdClaim, profileRegistry::findDriverIdBySub)
+            || owns(passengerId, passengerIdClaim, profileRegistry::findPassengerIdBySub)) {
+            return;
+        }
+
+        doRequestUtil.validateAccessForDriverAndPassenger(driverId, passengerId);
+    }
+
+    private boolean owns(Long profileId, String claim, Function<String, Optional<Long>> registryLookup) {
+        if (profileId == null) {
+            return false;
+        }
+
+        return claimedId(claim)
+                .or(() -> registryLookup.apply(tokenProvider.getSubject()))
+                .map(profileId::equals)
+                .orElse(false);
+    }
+
+    private Optional<Long> claimedId(String claim) {
+        Jwt jwt = tokenProvider.getJwt();
+        Object value = jwt != null ? jwt.getClaims().get(claim) : null;
+        if (value instanceof Number number) {
+            return Optional.of(number.longValue());
+        }
+        if (value instanceof String text) {
+            try {
+                return Optional.of(Long.valueOf(text));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+}
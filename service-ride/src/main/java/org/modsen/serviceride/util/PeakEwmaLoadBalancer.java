@@ -0,0 +1,88 @@
+package org.modsen.serviceride.util;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power-of-two-choices balancer over {@link InstanceHealthTracker} scores. Both classes are kept
+ * identical, apart from the package, in api-gateway, service-ride and service-rating.
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    /**
+     * Request attribute holding a {@link ServiceInstance} to avoid, e.g. the one a hedged request's
+     * primary copy went to. Ignored when it is the only instance.
+     */
+    public static final String EXCLUDED_INSTANCE_ATTR = "loadbalancer.excludedInstance";
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final InstanceHealthTracker tracker;
+    private final double maxEjectionRatio;
+
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                InstanceHealthTracker tracker, double maxEjectionRatio) {
+        this.supplierProvider = supplierProvider;
+        this.tracker = tracker;
+        this.maxEjectionRatio = maxEjectionRatio;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        ServiceInstance excluded = request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest() != null
+                && context.getClientRequest().getAttributes() != null
+                && context.getClientRequest().getAttributes().get(EXCLUDED_INSTANCE_ATTR)
+                instanceof ServiceInstance primaryInstance ? primaryInstance : null;
+        return supplier.get(request)
+                .next()
+                .map(instances -> choose(excluded == null || instances.size() < 2 ? instances : instances.stream()
+                        .filter(instance -> !isSameInstance(instance, excluded))
+                        .toList()));
+    }
+
+    public Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+
+        List<ServiceInstance> healthy = instances.stream()
+                .filter(instance -> !tracker.isEjected(instance))
+                .toList();
+        List<ServiceInstance> candidates = healthy.isEmpty()
+                || instances.size() - healthy.size() > instances.size() * maxEjectionRatio
+                ? instances
+                : healthy;
+
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(tracker.score(a) <= tracker.score(b) ? a : b);
+    }
+
+    private boolean isSameInstance(ServiceInstance instance, ServiceInstance other) {
+        return instance.getHost().equals(other.getHost()) && instance.getPort() == other.getPort();
+    }
+}
@@ -0,0 +1,120 @@
+package org.modsen.serviceride.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.serviceride.config.DataSourceRoutingConfig;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DisplayName("Read/write routing tests")
+public class ReadWriteRoutingIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> primary
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @Container
+    private static final PostgreSQLContainer<?> replica
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    DataSourceAutoConfiguration.class,
+                    DataSourceTransactionManagerAutoConfiguration.class,
+                    JdbcTemplateAutoConfiguration.class,
+                    TransactionAutoConfiguration.class))
+            .withUserConfiguration(DataSourceRoutingConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "spring.datasource.url=" + primary.getJdbcUrl(),
+                    "spring.datasource.username=" + primary.getUsername(),
+                    "spring.datasource.password=" + primary.getPassword(),
+                    "datasource.replica.enabled=true",
+                    "datasource.replica.urls=" + replica.getJdbcUrl(),
+                    "datasource.replica.username=" + replica.getUsername(),
+                    "datasource.replica.password=" + replica.getPassword(),
+                    "datasource.replica.read-your-writes-window=1m");
+
+    @BeforeAll
+    static void createMarkers() {
+        for (PostgreSQLContainer<?> container : new PostgreSQLContainer<?>[]{primary, replica}) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                    container.getJdbcUrl(), container.getUsername(), container.getPassword()));
+            jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+            jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", container == primary ? "primary" : "replica");
+            jdbcTemplate.execute("CREATE TABLE written (id SERIAL PRIMARY KEY)");
+        }
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void givenReadOnlyTransaction_whenQuery_thenRoutesToReplica() {
+        contextRunner.run(context -> assertThat(readMarker(context.getBean(PlatformTransactionManager.class),
+                context.getBean(JdbcTemplate.class), true)).isEqualTo("replica"));
+    }
+
+    @Test
+    void givenReadWriteTransaction_whenQuery_thenRoutesToPrimary() {
+        contextRunner.run(context -> assertThat(readMarker(context.getBean(PlatformTransactionManager.class),
+                context.getBean(JdbcTemplate.class), false)).isEqualTo("primary"));
+    }
+
+    @Test
+    void givenRecentWriteByUser_whenReadOnlyQuery_thenRoutesUserToPrimaryOnly() {
+        contextRunner.run(context -> {
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("writer", null));
+            new TransactionTemplate(transactionManager).executeWithoutResult(
+                    status -> jdbcTemplate.update("INSERT INTO written DEFAULT VALUES"));
+
+            assertThat(readMarker(transactionManager, jdbcTemplate, true)).isEqualTo("primary");
+
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("reader", null));
+            assertThat(readMarker(transactionManager, jdbcTemplate, true)).isEqualTo("replica");
+        });
+    }
+
+    @Test
+    void givenRoutingDataSource_whenQueried_thenExposesPoolMetricsPerTarget() {
+        contextRunner.run(context -> {
+            readMarker(context.getBean(PlatformTransactionManager.class), context.getBean(JdbcTemplate.class), true);
+            readMarker(context.getBean(PlatformTransactionManager.class), context.getBean(JdbcTemplate.class), false);
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+            assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica-0").gauge()).isNotNull();
+        });
+    }
+
+    private String readMarker(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+}
@@ -27,6 +27,7 @@ import java.util.NoSuchElementException;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -87,6 +88,29 @@ public class RideControllerIntegrationTest {
                 .andExpect(jsonPath("$.pageInfo.totalItems", greaterThan(0)));
     }
 
+    @Test
+    void givenEmptyCursor_whenFindAll_thenReturnFirstWindowWithoutTotals() throws Exception {
+        mockMvc.perform(get("/api/v1/rides")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("after", "")
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rides", hasSize(1)))
+                .andExpect(jsonPath("$.pageInfo.hasNext", is(true)))
+                .andExpect(jsonPath("$.pageInfo.nextCursor", notNullValue()))
+                .andExpect(jsonPath("$.pageInfo.totalItems").doesNotExist());
+    }
+
+    @Test
+    void givenInvalidCursor_whenFindAll_thenBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/rides")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("after", "not-a-cursor")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void givenFilters_whenFindAll_thenSuccess() throws Exception {
         mockMvc.perform(get("/api/v1/rides")
@@ -0,0 +1,108 @@
+package org.modsen.serviceride.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modsen.serviceride.dto.filter.RideFilterDto;
+import org.modsen.serviceride.repository.RideRepository;
+import org.modsen.serviceride.util.RideUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@EmbeddedKafka(partitions = 1, topics = "rating-topic")
+@SpringBootTest(properties = "spring.kafka.producer.bootstrap-servers=${spring.embedded.kafka.brokers}")
+@DisplayName("Ride index usage tests")
+public class RideIndexIntegrationTest {
+
+    @Autowired
+    private RideRepository rideRepository;
+    @Autowired
+    private RideUtil rideUtil;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgreSQLContainer
+            = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"))
+            .withCommand("postgres", "-c", "fsync=off",
+                    "-c", "enable_seqscan=off",
+                    "-c", "shared_preload_libraries=auto_explain",
+                    "-c", "auto_explain.log_min_duration=0");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.change-log", () -> "classpath:migrations/main-changelog.xml");
+    }
+
+    @Test
+    void givenDriverAndStatusFilter_whenFindRides_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("ride", () -> findRides(RideFilterDto.builder().driverId(1L).status("COMPLETED").build())))
+                .contains("idx_ride_driver_id_status")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenPassengerFilter_whenFindRides_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("ride", () -> findRides(RideFilterDto.builder().passengerId(1L).build())))
+                .contains("idx_ride_passenger_id_status")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenStatusFilter_whenFindRides_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("ride", () -> findRides(RideFilterDto.builder().status("COMPLETED").build())))
+                .contains("idx_ride_status")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenPickupAddressFilter_whenFindRides_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("ride", () -> findRides(RideFilterDto.builder().pickupAddress("main").build())))
+                .contains("idx_ride_pickup_address_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void givenDestinationAddressFilter_whenFindRides_thenUsesIndex() throws InterruptedException {
+        assertThat(explain("ride", () -> findRides(RideFilterDto.builder().destinationAddress("main").build())))
+                .contains("idx_ride_destination_address_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    private void findRides(RideFilterDto filter) {
+        rideRepository.findAll(rideUtil.createRideExample(filter), PageRequest.of(0, 10));
+    }
+
+    private String explain(String table, Runnable repositoryCall) throws InterruptedException {
+        int offset = postgreSQLContainer.getLogs(OutputFrame.OutputType.STDERR).length();
+        repositoryCall.run();
+
+        for (int attempt = 0; attempt < 50; attempt++) {
+            String plans = Arrays.stream(postgreSQLContainer.getLogs(OutputFrame.OutputType.STDERR)
+                            .substring(offset)
+                            .split("LOG:  duration: "))
+                    .filter(plan -> plan.contains("Query Text:") && plan.contains(" from " + table + " "))
+                    .collect(Collectors.joining("\n"));
+            if (!plans.isEmpty()) {
+                return plans;
+            }
+            Thread.sleep(100);
+        }
+        return "";
+    }
+}
@@ -0,0 +1,95 @@
+package org.modsen.serviceride.unit.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modsen.serviceride.dto.message.RatingMessage;
+import org.modsen.serviceride.model.OutboxEvent;
+import org.modsen.serviceride.repository.OutboxEventRepository;
+import org.modsen.serviceride.service.impl.OutboxServiceImpl;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxServiceUnitTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, RatingMessage> kafkaTemplate;
+
+    private OutboxServiceImpl outboxService;
+
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(new ObjectMapper(), outboxEventRepository, kafkaTemplate);
+        ReflectionTestUtils.setField(outboxService, "sendTimeoutMillis", 1000L);
+        event = OutboxEvent.builder()
+                .id(1L)
+                .topic("rating-topic")
+                .payload("{\"rideId\":1,\"passengerId\":2,\"driverId\":3}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void givenPendingEvents_whenPublishPending_thenSendAndDeleteBatch() {
+        // Given
+        List<OutboxEvent> events = List.of(event);
+        when(outboxEventRepository.lockNextBatch(100)).thenReturn(events);
+        when(kafkaTemplate.send(eq("rating-topic"), any(), any(RatingMessage.class)))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        // When
+        int published = outboxService.publishPending(100);
+
+        // Then
+        assertEquals(1, published);
+        verify(kafkaTemplate, times(1)).send(eq("rating-topic"), any(), eq(new RatingMessage(1L, 2L, 3L)));
+        verify(outboxEventRepository, times(1)).deleteAllInBatch(events);
+    }
+
+    @Test
+    void givenBrokerFailure_whenPublishPending_thenKeepEvents() {
+        // Given
+        when(outboxEventRepository.lockNextBatch(100)).thenReturn(List.of(event));
+        when(kafkaTemplate.send(eq("rating-topic"), any(), any(RatingMessage.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> outboxService.publishPending(100));
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void givenNoPendingEvents_whenPublishPending_thenNothingSent() {
+        // Given
+        when(outboxEventRepository.lockNextBatch(100)).thenReturn(Collections.emptyList());
+
+        // When
+        int published = outboxService.publishPending(100);
+
+        // Then
+        assertEquals(0, published);
+        verify(kafkaTemplate, never()).send(any(), any(), any(RatingMessage.class));
+    }
+}
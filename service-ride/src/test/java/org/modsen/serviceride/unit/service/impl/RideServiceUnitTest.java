@@ -1,10 +1,13 @@
 package org.modsen.serviceride.unit.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modsen.serviceride.dto.filter.RideFilterDto;
 import org.modsen.serviceride.dto.message.RatingMessage;
@@ -18,8 +21,10 @@ import org.modsen.serviceride.mapper.RideMapper;
 import org.modsen.serviceride.model.Ride;
 import org.modsen.serviceride.model.RideStatus;
 import org.modsen.serviceride.repository.RideRepository;
+import org.modsen.serviceride.service.OutboxService;
 import org.modsen.serviceride.service.impl.RideServiceImpl;
 import org.modsen.serviceride.util.DoRequestUtil;
+import org.modsen.serviceride.util.OwnershipUtil;
 import org.modsen.serviceride.util.RideTestUtil;
 import org.modsen.serviceride.util.RideUtil;
 import org.modsen.serviceride.util.SecurityTestUtils;
@@ -28,18 +33,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.stream.Stream;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,11 +63,20 @@ public class RideServiceUnitTest {
     private RideUtil rideUtil;
 
     @Mock
-    private KafkaTemplate<String, RatingMessage> kafkaTemplate;
+    private OutboxService outboxService;
 
     @Mock
     private DoRequestUtil doRequestUtil;
 
+    @Mock
+    private OwnershipUtil ownershipUtil;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private RideServiceImpl rideService;
 
@@ -163,7 +178,7 @@ public class RideServiceUnitTest {
         assertNotNull(savedRide);
         assertEquals(rideResponse, savedRide);
         verify(rideRepository, times(1)).save(ride);
-        verify(kafkaTemplate, times(1)).send(eq("rating-topic"), any(RatingMessage.class));
+        verify(outboxService, times(1)).saveRatingMessage(any(RatingMessage.class));
     }
 
     @Test
@@ -211,4 +226,20 @@ public class RideServiceUnitTest {
         assertEquals(RideStatus.COMPLETED.name(), ride.getStatus().name());
         verify(rideRepository, times(1)).save(ride);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenRides_whenExportRides_thenWriteOneJsonLinePerRide() {
+        // Given
+        when(rideRepository.streamAllOrderById()).thenReturn(Stream.of(ride, ride));
+        when(rideMapper.toRideResponse(ride)).thenReturn(rideResponse);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        rideService.exportRides(outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        verify(entityManager, times(2)).detach(ride);
+    }
+}
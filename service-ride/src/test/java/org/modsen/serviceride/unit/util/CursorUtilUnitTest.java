@@ -0,0 +1,64 @@
+package org.modsen.serviceride.unit.util;
+
+import org.junit.jupiter.api.Test;
+import org.modsen.serviceride.dto.response.CursorPageResponse;
+import org.modsen.serviceride.util.CursorUtil;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CursorUtilUnitTest {
+
+    private final CursorUtil cursorUtil = new CursorUtil();
+
+    @Test
+    void givenEmptyCursor_whenDecode_thenReturnInitialPosition() {
+        // When
+        ScrollPosition position = cursorUtil.decode("");
+
+        // Then
+        assertTrue(position.isInitial());
+    }
+
+    @Test
+    void givenNextCursor_whenDecode_thenReturnPositionAfterLastId() {
+        // Given
+        Window<Long> window = Window.from(List.of(1L, 2L),
+                index -> ScrollPosition.forward(Map.of("id", index + 1L)), true);
+
+        // When
+        CursorPageResponse pageInfo = cursorUtil.createPageInfo(window, 2);
+        KeysetScrollPosition position = (KeysetScrollPosition) cursorUtil.decode(pageInfo.getNextCursor());
+
+        // Then
+        assertTrue(pageInfo.getHasNext());
+        assertEquals(2L, position.getKeys().get("id"));
+    }
+
+    @Test
+    void givenLastWindow_whenCreatePageInfo_thenReturnNoCursor() {
+        // Given
+        Window<Long> window = Window.from(List.of(1L),
+                index -> ScrollPosition.forward(Map.of("id", index + 1L)), false);
+
+        // When
+        CursorPageResponse pageInfo = cursorUtil.createPageInfo(window, 2);
+
+        // Then
+        assertFalse(pageInfo.getHasNext());
+        assertNull(pageInfo.getNextCursor());
+    }
+
+    @Test
+    void givenMalformedCursor_whenDecode_thenThrowBadRequest() {
+        assertThrows(ResponseStatusException.class, () -> cursorUtil.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,54 @@
+package org.modsen.serviceride.unit.util;
+
+import feign.Request;
+import feign.RetryableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.modsen.serviceride.util.DeadlineAwareRetryer;
+import org.modsen.serviceride.util.RequestDeadline;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DeadlineAwareRetryerUnitTest {
+
+    private final RetryableException exception = new RetryableException(503, "unavailable", Request.HttpMethod.GET,
+            (Long) null, Request.create(Request.HttpMethod.GET, "/api/v1/drivers/1", Map.of(), null,
+            StandardCharsets.UTF_8, null));
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void givenNoDeadline_whenContinueOrPropagate_thenRetriesUntilMaxAttempts() {
+        // Given
+        DeadlineAwareRetryer retryer = new DeadlineAwareRetryer(1, 2, 3);
+
+        // When
+        assertDoesNotThrow(() -> retryer.continueOrPropagate(exception));
+        assertDoesNotThrow(() -> retryer.continueOrPropagate(exception));
+        RetryableException thrown = assertThrows(RetryableException.class,
+                () -> retryer.continueOrPropagate(exception));
+
+        // Then
+        assertSame(exception, thrown);
+    }
+
+    @Test
+    void givenDeadlineBeforeNextBackoff_whenContinueOrPropagate_thenPropagatesImmediately() {
+        // Given
+        RequestDeadline.set(System.currentTimeMillis() + 100);
+        DeadlineAwareRetryer retryer = new DeadlineAwareRetryer(1000, 2000, 3);
+
+        // When
+        RetryableException thrown = assertThrows(RetryableException.class,
+                () -> retryer.continueOrPropagate(exception));
+
+        // Then
+        assertSame(exception, thrown);
+    }
+}
@@ -0,0 +1,181 @@
+package org.modsen.serviceride.unit.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modsen.serviceride.client.DriverClient;
+import org.modsen.serviceride.client.PassengerClient;
+import org.modsen.serviceride.client.TokenProvider;
+import org.modsen.serviceride.dto.response.DriverResponse;
+import org.modsen.serviceride.exception.NoAccessException;
+import org.modsen.serviceride.util.DoRequestUtil;
+import org.modsen.serviceride.util.ProfileRegistry;
+import org.modsen.serviceride.util.RideTestUtil;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DoRequestUtilUnitTest {
+
+    @Mock
+    private DriverClient driverClient;
+
+    @Mock
+    private PassengerClient passengerClient;
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private ProfileRegistry profileRegistry;
+
+    private DoRequestUtil doRequestUtil;
+
+    @BeforeEach
+    void setUp() {
+        doRequestUtil = new DoRequestUtil(driverClient, passengerClient, tokenProvider,
+                Caffeine.newBuilder().maximumSize(100).build(),
+                Caffeine.newBuilder().maximumSize(100).build(),
+                Executors.newVirtualThreadPerTaskExecutor(), profileRegistry);
+    }
+
+    @Test
+    void givenSameCaller_whenGetDriverTwice_thenDriverClientCalledOnce() {
+        // Given
+        DriverResponse driverResponse = RideTestUtil.driverResponse;
+        when(tokenProvider.getSubject()).thenReturn("caller-1");
+        when(driverClient.getDriver(2L)).thenReturn(driverResponse);
+
+        // When
+        DriverResponse first = doRequestUtil.getDriverResponse(2L);
+        DriverResponse second = doRequestUtil.getDriverResponse(2L);
+
+        // Then
+        assertEquals(driverResponse, first);
+        assertEquals(driverResponse, second);
+        verify(driverClient, times(1)).getDriver(2L);
+    }
+
+    @Test
+    void givenDifferentCallers_whenGetDriver_thenDriverClientCalledForEachCaller() {
+        // Given
+        when(tokenProvider.getSubject()).thenReturn("caller-1", "caller-2");
+        when(driverClient.getDriver(2L)).thenReturn(RideTestUtil.driverResponse);
+
+        // When
+        doRequestUtil.getDriverResponse(2L);
+        doRequestUtil.getDriverResponse(2L);
+
+        // Then
+        verify(driverClient, times(2)).getDriver(2L);
+    }
+
+    @Test
+    void givenBothLookupsForbidden_whenValidateAccess_thenThrowNoAccessException() {
+        // Given
+        when(driverClient.getDriver(2L)).thenThrow(mock(FeignException.Forbidden.class));
+        when(passengerClient.getPassenger(3L)).thenThrow(mock(FeignException.Forbidden.class));
+
+        // When & Then
+        assertThrows(NoAccessException.class, () -> doRequestUtil.validateAccessForDriverAndPassenger(2L, 3L));
+        verify(driverClient, times(1)).getDriver(2L);
+        verify(passengerClient, times(1)).getPassenger(3L);
+    }
+
+    @Test
+    void givenOneLookupAllowed_whenValidateAccess_thenAccessGranted() {
+        // Given
+        when(driverClient.getDriver(2L)).thenThrow(mock(FeignException.Forbidden.class));
+        when(passengerClient.getPassenger(3L)).thenReturn(RideTestUtil.passengerResponse);
+
+        // When
+        doRequestUtil.validateAccessForDriverAndPassenger(2L, 3L);
+
+        // Then
+        verify(passengerClient, times(1)).getPassenger(3L);
+    }
+
+    @Test
+    void givenRegisteredProfiles_whenValidateExist_thenNoRequestsSent() {
+        // Given
+        when(profileRegistry.findDriver(2L)).thenReturn(Optional.of(entry(UUID.randomUUID(), false)));
+        when(profileRegistry.findPassenger(3L)).thenReturn(Optional.of(entry(UUID.randomUUID(), false)));
+
+        // When
+        doRequestUtil.validateDriverAndPassengerExist(2L, 3L);
+
+        // Then
+        verify(driverClient, never()).getDriver(2L);
+        verify(passengerClient, never()).getPassenger(3L);
+    }
+
+    @Test
+    void givenDeletedDriver_whenValidateExist_thenThrowNoSuchElementException() {
+        // Given
+        when(profileRegistry.findDriver(2L)).thenReturn(Optional.of(entry(UUID.randomUUID(), true)));
+        when(profileRegistry.findPassenger(3L)).thenReturn(Optional.of(entry(UUID.randomUUID(), false)));
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, () -> doRequestUtil.validateDriverAndPassengerExist(2L, 3L));
+        verify(driverClient, never()).getDriver(2L);
+    }
+
+    @Test
+    void givenUnregisteredPassenger_whenValidateExist_thenOnlyPassengerRequested() {
+        // Given
+        when(profileRegistry.findDriver(2L)).thenReturn(Optional.of(entry(UUID.randomUUID(), false)));
+        when(profileRegistry.findPassenger(3L)).thenReturn(Optional.empty());
+        when(passengerClient.getPassenger(3L)).thenReturn(RideTestUtil.passengerResponse);
+
+        // When
+        doRequestUtil.validateDriverAndPassengerExist(2L, 3L);
+
+        // Then
+        verify(driverClient, never()).getDriver(2L);
+        verify(passengerClient, times(1)).getPassenger(3L);
+    }
+
+    @Test
+    void givenCallerOwnsRegisteredPassenger_whenValidateAccess_thenAccessGrantedWithoutRequests() {
+        // Given
+        UUID subject = UUID.randomUUID();
+        when(tokenProvider.getSubject()).thenReturn(subject.toString());
+        when(profileRegistry.findDriver(2L)).thenReturn(Optional.of(entry(UUID.randomUUID(), false)));
+        when(profileRegistry.findPassenger(3L)).thenReturn(Optional.of(entry(subject, false)));
+
+        // When
+        doRequestUtil.validateAccessForDriverAndPassenger(2L, 3L);
+
+        // Then
+        verify(driverClient, never()).getDriver(2L);
+        verify(passengerClient, never()).getPassenger(3L);
+    }
+
+    @Test
+    void givenCallerOwnsNeitherRegisteredProfile_whenValidateAccess_thenThrowNoAccessException() {
+        // Given
+        when(tokenProvider.getSubject()).thenReturn(UUID.randomUUID().toString());
+        when(profileRegistry.findDriver(2L)).thenReturn(Optional.of(entry(UUID.randomUUID(), false)));
+        when(profileRegistry.findPassenger(3L)).thenReturn(Optional.of(entry(null, false)));
+
+        // When & Then
+        assertThrows(NoAccessException.class, () -> doRequestUtil.validateAccessForDriverAndPassenger(2L, 3L));
+    }
+
+    private ProfileRegistry.Entry entry(UUID sub, boolean deleted) {
+        return new ProfileRegistry.Entry(sub, deleted);
+    }
+}
@@ -0,0 +1,91 @@
+package org.modsen.serviceride.unit.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modsen.serviceride.client.TokenProvider;
+import org.modsen.serviceride.util.DoRequestUtil;
+import org.modsen.serviceride.util.OwnershipUtil;
+import org.modsen.serviceride.util.ProfileRegistry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Optional;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OwnershipUtilUnitTest {
+
+    private static final String SUBJECT = "37bf1ec1-641c-47f4-9ea6-1eeb92c0399c";
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private ProfileRegistry profileRegistry;
+
+    @Mock
+    private DoRequestUtil doRequestUtil;
+
+    @InjectMocks
+    private OwnershipUtil ownershipUtil;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ownershipUtil, "driverIdClaim", "driver_id");
+        ReflectionTestUtils.setField(ownershipUtil, "passengerIdClaim", "passenger_id");
+    }
+
+    @Test
+    void givenDriverIdClaim_whenValidateAccessForOwnRide_thenNoLookups() {
+        // Given
+        when(tokenProvider.getJwt()).thenReturn(jwt("driver_id", 2L));
+
+        // When
+        ownershipUtil.validateAccess(2L, 3L);
+
+        // Then
+        verify(doRequestUtil, never()).validateAccessForDriverAndPassenger(2L, 3L);
+    }
+
+    @Test
+    void givenRegisteredPassengerSubject_whenValidateAccessForOwnRide_thenNoLookups() {
+        // Given
+        when(tokenProvider.getSubject()).thenReturn(SUBJECT);
+        when(profileRegistry.findDriverIdBySub(SUBJECT)).thenReturn(Optional.empty());
+        when(profileRegistry.findPassengerIdBySub(SUBJECT)).thenReturn(Optional.of(3L));
+
+        // When
+        ownershipUtil.validateAccess(2L, 3L);
+
+        // Then
+        verify(doRequestUtil, never()).validateAccessForDriverAndPassenger(2L, 3L);
+    }
+
+    @Test
+    void givenUnknownCaller_whenValidateAccess_thenDelegateToProfileLookups() {
+        // Given
+        when(tokenProvider.getSubject()).thenReturn(SUBJECT);
+        when(profileRegistry.findDriverIdBySub(SUBJECT)).thenReturn(Optional.empty());
+        when(profileRegistry.findPassengerIdBySub(SUBJECT)).thenReturn(Optional.empty());
+
+        // When
+        ownershipUtil.validateAccess(2L, 3L);
+
+        // Then
+        verify(doRequestUtil, times(1)).validateAccessForDriverAndPassenger(2L, 3L);
+    }
+
+    private Jwt jwt(String claim, Object value) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(SUBJECT)
+                .claim(claim, value)
+                .build();
+    }
+}
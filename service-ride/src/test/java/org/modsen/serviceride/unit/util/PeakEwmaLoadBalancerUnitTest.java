@@ -0,0 +1,82 @@
+package org.modsen.serviceride.unit.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modsen.serviceride.util.InstanceHealthTracker;
+import org.modsen.serviceride.util.PeakEwmaLoadBalancer;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Duration;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PeakEwmaLoadBalancerUnitTest {
+
+    private final ServiceInstance fast = instance("fast", 8080);
+    private final ServiceInstance slow = instance("slow", 8081);
+
+    private InstanceHealthTracker tracker;
+    private PeakEwmaLoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InstanceHealthTracker(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tracker, "decay", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(tracker, "failurePenalty", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(tracker, "ejectionThreshold", 3);
+        ReflectionTestUtils.setField(tracker, "ejectionDuration", Duration.ofSeconds(30));
+        loadBalancer = new PeakEwmaLoadBalancer(null, tracker, 0.5);
+    }
+
+    @Test
+    void givenSlowInstance_whenChoose_thenFasterInstancePreferred() {
+        // Given
+        tracker.record(fast, Duration.ofMillis(5).toNanos(), false);
+        tracker.record(slow, Duration.ofMillis(500).toNanos(), false);
+
+        // When
+        ServiceInstance chosen = loadBalancer.choose(List.of(fast, slow)).getServer();
+
+        // Then
+        assertEquals(fast, chosen);
+    }
+
+    @Test
+    void givenConsecutiveFailures_whenChoose_thenInstanceEjected() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            tracker.record(slow, Duration.ofMillis(1).toNanos(), true);
+        }
+
+        // When
+        boolean ejected = tracker.isEjected(slow);
+        ServiceInstance chosen = loadBalancer.choose(List.of(fast, slow)).getServer();
+
+        // Then
+        assertTrue(ejected);
+        assertFalse(tracker.isEjected(fast));
+        assertEquals(fast, chosen);
+    }
+
+    @Test
+    void givenAllInstancesEjected_whenChoose_thenStillServed() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            tracker.record(fast, 0, true);
+        }
+
+        // When
+        ServiceInstance chosen = loadBalancer.choose(List.of(fast)).getServer();
+
+        // Then
+        assertEquals(fast, chosen);
+    }
+
+    private ServiceInstance instance(String host, int port) {
+        return new DefaultServiceInstance(host + ":" + port, "service-driver", host, port, false);
+    }
+}
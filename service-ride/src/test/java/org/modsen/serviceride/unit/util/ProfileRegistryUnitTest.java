@@ -0,0 +1,115 @@
+package org.modsen.serviceride.unit.util;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modsen.serviceride.dto.message.ProfileEvent;
+import org.modsen.serviceride.util.ProfileRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProfileRegistryUnitTest {
+
+    private static final String DRIVER_TOPIC = "driver-events";
+    private static final TopicPartition DRIVER_PARTITION = new TopicPartition(DRIVER_TOPIC, 0);
+
+    @Mock
+    private Consumer<?, ?> consumer;
+
+    private ProfileRegistry profileRegistry;
+
+    @BeforeEach
+    void setUp() {
+        profileRegistry = new ProfileRegistry();
+        ReflectionTestUtils.setField(profileRegistry, "driverTopic", DRIVER_TOPIC);
+        ReflectionTestUtils.setField(profileRegistry, "passengerTopic", "passenger-events");
+    }
+
+    @Test
+    void givenUnreadEvents_whenCatchingUp_thenLookupsWaitUntilEndOffset() {
+        // Given
+        when(consumer.endOffsets(List.of(DRIVER_PARTITION))).thenReturn(Map.of(DRIVER_PARTITION, 2L));
+        when(consumer.position(DRIVER_PARTITION)).thenReturn(0L);
+        profileRegistry.onPartitionsAssigned(consumer, List.of(DRIVER_PARTITION));
+
+        // When
+        profileRegistry.onEvent(record(0, event(1L, false, Instant.now())));
+
+        // Then
+        assertFalse(profileRegistry.isReady(DRIVER_TOPIC));
+        assertTrue(profileRegistry.findDriver(1L).isEmpty());
+
+        profileRegistry.onEvent(record(1, event(2L, false, Instant.now())));
+        assertTrue(profileRegistry.isReady(DRIVER_TOPIC));
+        assertTrue(profileRegistry.findDriver(1L).isPresent());
+    }
+
+    @Test
+    void givenLaterEventWithSkewedClock_whenApplied_thenLaterEventWins() {
+        // Given
+        when(consumer.endOffsets(List.of(DRIVER_PARTITION))).thenReturn(Map.of(DRIVER_PARTITION, 0L));
+        when(consumer.position(DRIVER_PARTITION)).thenReturn(0L);
+        profileRegistry.onPartitionsAssigned(consumer, List.of(DRIVER_PARTITION));
+        Instant now = Instant.now();
+
+        // When
+        profileRegistry.apply(DRIVER_TOPIC, event(1L, false, now));
+        profileRegistry.apply(DRIVER_TOPIC, event(1L, true, now.minusSeconds(60)));
+
+        // Then
+        assertTrue(profileRegistry.findDriver(1L).orElseThrow().deleted());
+    }
+
+    @Test
+    void givenProfileRebound_whenFindIdBySub_thenOnlyNewSubResolves() {
+        // Given
+        UUID previousSub = UUID.randomUUID();
+        UUID newSub = UUID.randomUUID();
+        Instant now = Instant.now();
+        profileRegistry.apply(DRIVER_TOPIC, new ProfileEvent(1L, previousSub, false, now));
+
+        // When
+        profileRegistry.apply(DRIVER_TOPIC, new ProfileEvent(1L, newSub, false, now));
+
+        // Then
+        assertTrue(profileRegistry.findDriverIdBySub(previousSub.toString()).isEmpty());
+        assertEquals(1L, profileRegistry.findDriverIdBySub(newSub.toString()).orElseThrow());
+    }
+
+    @Test
+    void givenDeletedProfile_whenFindIdBySub_thenEmpty() {
+        // Given
+        UUID sub = UUID.randomUUID();
+        Instant now = Instant.now();
+        profileRegistry.apply(DRIVER_TOPIC, new ProfileEvent(1L, sub, false, now));
+
+        // When
+        Long registeredId = profileRegistry.findDriverIdBySub(sub.toString()).orElseThrow();
+        profileRegistry.apply(DRIVER_TOPIC, new ProfileEvent(1L, sub, true, now.plusSeconds(1)));
+
+        // Then
+        assertEquals(1L, registeredId);
+        assertTrue(profileRegistry.findDriverIdBySub(sub.toString()).isEmpty());
+    }
+
+    private ProfileEvent event(Long id, boolean deleted, Instant occurredAt) {
+        return new ProfileEvent(id, UUID.randomUUID(), deleted, occurredAt);
+    }
+
+    private ConsumerRecord<String, ProfileEvent> record(long offset, ProfileEvent event) {
+        return new ConsumerRecord<>(DRIVER_TOPIC, 0, offset, event.getId().toString(), event);
+    }
+}
@@ -0,0 +1,64 @@
+package org.modsen.serviceride.unit.util;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.modsen.serviceride.util.RequestDeadline;
+import org.modsen.serviceride.util.RequestDeadlineFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestDeadlineFilterUnitTest {
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter();
+    private final AtomicReference<OptionalLong> remaining = new AtomicReference<>();
+    private final FilterChain chain = (request, response) -> remaining.set(RequestDeadline.remainingMillis());
+
+    @Test
+    void givenBudgetHeader_whenFilter_thenLocalDeadlineSetForRequest() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/rides/1");
+        request.addHeader(RequestDeadline.HEADER, "2000");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertTrue(remaining.get().isPresent());
+        assertTrue(remaining.get().getAsLong() > 1000 && remaining.get().getAsLong() <= 2000);
+        assertNull(RequestDeadline.get());
+    }
+
+    @Test
+    void givenExhaustedBudget_whenFilter_thenGatewayTimeout() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/rides/1");
+        request.addHeader(RequestDeadline.HEADER, "0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getStatus());
+        assertNull(remaining.get());
+    }
+
+    @Test
+    void givenNoHeader_whenFilter_thenNoDeadline() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/rides/1");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertFalse(remaining.get().isPresent());
+    }
+}